@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# 시작 시간 벤치마크: plain / cds / aot 모드별로 애플리케이션을 여러 번 띄워
+#   - ready_ms         : 프로세스 시작 ~ /actuator/health/readiness 가 UP 이 될 때까지
+#   - first_request_ms : 프로세스 시작 ~ 첫 GET /api/posts 가 200 을 돌려줄 때까지
+#   - rss_kb           : 첫 요청 직후 프로세스의 VmRSS
+# 를 build/startup/results.csv 에 기록합니다. (Linux 전용, MySQL 이 떠 있어야 합니다)
+#
+# 사용법: scripts/startup-benchmark.sh [반복 횟수] [모드...]
+#   예) scripts/startup-benchmark.sh 5 plain cds aot
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+shift || true
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+    MODES=(plain cds aot)
+fi
+
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="build/startup"
+RESULTS="${OUT_DIR}/results.csv"
+# 워밍업은 시작 시간과 별개로 조절하는 값이므로 기본적으로 끄고 측정합니다.
+APP_ARGS=(--server.port="${PORT}" --app.warmup.enabled=false --spring.jpa.show-sql=false ${APP_ARGS:-})
+
+now_ms() {
+    date +%s%3N
+}
+
+prepare() {
+    local mode="$1"
+    case "$mode" in
+        plain)
+            ./gradlew -q startupClasspath
+            ;;
+        cds)
+            ./gradlew -q startupClasspath cdsArchive
+            ;;
+        aot)
+            ./gradlew -q -Paot startupClasspath
+            ;;
+        *)
+            echo "알 수 없는 모드: $mode (plain | cds | aot)" >&2
+            exit 1
+            ;;
+    esac
+}
+
+jvm_flags() {
+    local mode="$1"
+    case "$mode" in
+        cds) echo "-XX:SharedArchiveFile=${OUT_DIR}/app.jsa -Xshare:auto" ;;
+        aot) echo "-Dspring.aot.enabled=true" ;;
+        *) echo "" ;;
+    esac
+}
+
+wait_for() {
+    local url="$1" pid="$2"
+    until curl -fs -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "애플리케이션이 시작 도중 종료되었습니다. (${OUT_DIR}/app.log 확인)" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+}
+
+mkdir -p "$OUT_DIR"
+[ -f "$RESULTS" ] || echo "timestamp,mode,run,ready_ms,first_request_ms,rss_kb" > "$RESULTS"
+
+for mode in "${MODES[@]}"; do
+    prepare "$mode"
+    classpath="$(cat "${OUT_DIR}/classpath.txt")"
+    for run in $(seq 1 "$RUNS"); do
+        start=$(now_ms)
+        java $(jvm_flags "$mode") -cp "$classpath" com.example.freeboard.FreeboardApplication "${APP_ARGS[@]}" \
+            > "${OUT_DIR}/app.log" 2>&1 &
+        pid=$!
+
+        wait_for "${BASE_URL}/actuator/health/readiness" "$pid"
+        ready=$(( $(now_ms) - start ))
+        wait_for "${BASE_URL}/api/posts?size=1" "$pid"
+        first_request=$(( $(now_ms) - start ))
+        rss=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        echo "$(date -Iseconds),${mode},${run},${ready},${first_request},${rss}" | tee -a "$RESULTS"
+    done
+done
+
+echo "결과: ${RESULTS}"
@@ -0,0 +1,136 @@
+package com.example.freeboard.benchmark;
+
+import com.example.freeboard.config.JacksonConfig;
+import com.example.freeboard.dto.PostListPage;
+import com.example.freeboard.dto.PostListRow;
+import com.example.freeboard.dto.PostResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 목록 응답 직렬화 비교 벤치마크입니다.
+ *
+ * - before: 쿼리 결과 -> PostResponseDto(빌더) -> PageImpl 을 BeanSerializer 로 직렬화 (pageable/sort 포함)
+ * - after : 쿼리 결과 PostListRow -> PostListPage 를 PostListPageSerializer 로 직접 직렬화
+ *
+ * 각 방식마다 "쿼리 결과가 메모리에 있는 상태에서 응답 바이트를 쓰기까지"를 반복하며
+ * 응답 크기와 요청당 할당 바이트(ThreadMXBean), 평균 시간을 출력합니다.
+ * 출력은 바이트 수만 세는 스트림으로 보내 I/O 비용은 제외합니다.
+ */
+public class ListSerializationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int pageSize = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        // 애플리케이션과 같은 설정: JavaTimeModule, 날짜는 ISO 문자열, 필터 미지정 시 모두 직렬화
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setFilterProvider(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false)
+                .addFilter(JacksonConfig.POST_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+
+        PageRequest pageable = PageRequest.of(3, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        List<PostListRow> rows = sampleRows(pageSize);
+        long total = 10_000;
+
+        Scenario before = () -> {
+            List<PostResponseDto> dtos = new ArrayList<>(rows.size());
+            for (PostListRow row : rows) {
+                dtos.add(PostResponseDto.builder()
+                        .id(row.id())
+                        .title(row.title())
+                        .excerpt(row.excerpt())
+                        .authorUsername(row.authorUsername())
+                        .createdAt(row.createdAt())
+                        .updatedAt(row.updatedAt())
+                        .viewCount(row.viewCount())
+                        .likeCount(row.likeCount().longValue())
+                        .commentCount(row.commentCount().longValue())
+                        .build());
+            }
+            return new PageImpl<>(dtos, pageable, total);
+        };
+        Scenario after = () -> new PostListPage(new PageImpl<>(rows, pageable, total));
+
+        System.out.printf("page size=%d, iterations=%d%n", pageSize, iterations);
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(objectMapper, before, iterations / 4);
+            run(objectMapper, after, iterations / 4);
+        }
+        report("PageImpl<PostResponseDto>", run(objectMapper, before, iterations));
+        report("PostListPage (streaming)", run(objectMapper, after, iterations));
+    }
+
+    private static List<PostListRow> sampleRows(int size) {
+        List<PostListRow> rows = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = base.minusMinutes(i * 17L);
+            rows.add(new PostListRow((long) (10_000 - i), "게시글 제목 " + i + " - 자유게시판 샘플",
+                    "본문 미리보기 " + i + " - 목록에 보여 줄 발췌문입니다.", "user" + (i % 50),
+                    createdAt, createdAt.plusMinutes(5), 100 + i * 3, i % 20, i % 7));
+        }
+        return rows;
+    }
+
+    private static Result run(ObjectMapper objectMapper, Scenario scenario, int iterations) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        CountingOutputStream out = new CountingOutputStream();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            objectMapper.writeValue(out, scenario.build());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(out.count / iterations, allocated / iterations, elapsed / iterations);
+    }
+
+    private static void report(String name, Result result) {
+        System.out.printf("%-28s %8d bytes/response %10d bytes allocated/op %8.1f us/op%n",
+                name, result.bytesPerResponse, result.allocatedPerOp, result.nanosPerOp / 1000.0);
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        Object build();
+    }
+
+    private record Result(long bytesPerResponse, long allocatedPerOp, long nanosPerOp) {
+    }
+
+    // 쓴 바이트 수만 세고 버리는 출력 스트림 (ObjectMapper 가 닫아도 계속 사용 가능)
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
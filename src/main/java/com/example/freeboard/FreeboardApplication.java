@@ -2,8 +2,10 @@ package com.example.freeboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 실시간 카운터 전송 등 주기 작업 활성화
 public class FreeboardApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,88 @@
+package com.example.freeboard.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 캐시를 감싸 evict/clear 를 다른 노드에도 알리는 데코레이터입니다.
+ * 조회와 저장은 로컬 캐시에만 하고, 다른 노드에서 온 무효화는 이 데코레이터를 거치지 않고 로컬 캐시에 바로 적용됩니다.
+ */
+public class BroadcastingCache implements Cache {
+
+    private final Cache local;
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCache(Cache local, CacheInvalidationBus bus) {
+        this.local = local;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        broadcast(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        // 다른 노드에는 있을 수 있으므로 로컬 결과와 관계없이 알립니다.
+        boolean present = local.evictIfPresent(key);
+        broadcast(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        bus.publish(CacheInvalidation.clear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = local.invalidate();
+        bus.publish(CacheInvalidation.clear(getName()));
+        return present;
+    }
+
+    private void broadcast(Object key) {
+        bus.publish(key instanceof String stringKey
+                ? new CacheInvalidation(getName(), stringKey)
+                : CacheInvalidation.clear(getName()));
+    }
+}
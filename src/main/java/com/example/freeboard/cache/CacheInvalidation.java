@@ -0,0 +1,16 @@
+package com.example.freeboard.cache;
+
+/**
+ * 다른 노드에 전파되는 캐시 무효화 한 건입니다. key 가 null 이면 캐시 전체를 비웁니다.
+ * 키는 문자열로만 전달되므로, 문자열이 아닌 키의 무효화는 캐시 전체 비우기로 바뀌어 전파됩니다.
+ */
+public record CacheInvalidation(String cacheName, String key) {
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.freeboard.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 노드 사이에 캐시 무효화를 전파하는 버스입니다. 구현은 app.cache.invalidation.transport 로 고릅니다.
+ * (none: 단일 노드, multicast: UDP 멀티캐스트, tcp: 고정 피어 목록)
+ *
+ * publish 는 보내기만 하고 자기 노드의 캐시는 건드리지 않으며, 구독자는 다른 노드에서 온 무효화만 받습니다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<List<CacheInvalidation>> listener);
+}
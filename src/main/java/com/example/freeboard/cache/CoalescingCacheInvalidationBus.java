@@ -0,0 +1,278 @@
+package com.example.freeboard.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 무효화를 잠깐 모았다가 한 번에 보내는 버스의 공통 구현입니다.
+ *
+ * publish 는 대기 집합에 넣기만 하고, 전송 스레드가 coalesce-ms 동안 더 모은 뒤 중복을 없애 묶음으로 보냅니다.
+ * 같은 캐시를 비우는 무효화가 있으면 그 캐시의 개별 키는 보내지 않습니다.
+ * 묶음은 max-payload-bytes 이하의 프레임으로 나뉘며, 프레임에는 보낸 노드 ID 가 들어 있어 자기 메시지는 무시합니다.
+ * 전송 방식(UDP 멀티캐스트, TCP)은 하위 클래스가 {@link #transmit(byte[])} 와 수신 스레드로 구현합니다.
+ */
+public abstract class CoalescingCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingCacheInvalidationBus.class);
+
+    // 프레임 식별자 ("FBCI")
+    private static final int MAGIC = 0x46424349;
+    // 매직 + 노드 ID + 항목 수
+    private static final int HEADER_BYTES = 4 + 16 + 2;
+    // 대기 집합이 비어 있을 때 전송 스레드가 다시 확인하는 주기 (깨우기 신호를 놓쳐도 이 안에 보냄)
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // 수신 오류가 이어질 때 다시 시도하기 전에 쉬는 시간 (오류마다 두 배, 성공하면 0 부터 다시)
+    private static final long MIN_RETRY_BACKOFF_MILLIS = 100;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000;
+
+    private final UUID nodeId = UUID.randomUUID();
+    private final Set<CacheInvalidation> pending = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<List<CacheInvalidation>>> listeners = new CopyOnWriteArrayList<>();
+    private final long coalesceMillis;
+    private final int maxPayloadBytes;
+    private final String transportName;
+
+    private final Counter publishedCounter;
+    private final Counter sentCounter;
+    private final Counter framesCounter;
+    private final Counter receivedCounter;
+
+    private volatile boolean running;
+    private Thread senderThread;
+
+    protected CoalescingCacheInvalidationBus(String transportName, MeterRegistry meterRegistry,
+                                             long coalesceMillis, int maxPayloadBytes) {
+        this.transportName = transportName;
+        this.coalesceMillis = coalesceMillis;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.publishedCounter = Counter.builder("freeboard.cache.invalidation.published")
+                .tag("transport", transportName)
+                .description("발행된 캐시 무효화 수 (합치기 전)")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("freeboard.cache.invalidation.sent")
+                .tag("transport", transportName)
+                .description("중복을 없앤 뒤 실제로 보낸 캐시 무효화 수")
+                .register(meterRegistry);
+        this.framesCounter = Counter.builder("freeboard.cache.invalidation.frames")
+                .tag("transport", transportName)
+                .description("보낸 무효화 프레임 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("freeboard.cache.invalidation.received")
+                .tag("transport", transportName)
+                .description("다른 노드에서 받아 적용한 캐시 무효화 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 묶음 프레임 하나를 다른 노드들에 보냅니다. 실패는 예외로 알리며, 그 묶음은 버려집니다. (캐시 TTL 이 최종 안전장치)
+     */
+    protected abstract void transmit(byte[] frame) throws IOException;
+
+    // 수신 소켓 열기/닫기
+    protected abstract void openTransport() throws IOException;
+
+    protected abstract void closeTransport();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        publishedCounter.increment();
+        pending.add(invalidation);
+        Thread sender = senderThread;
+        if (sender != null) {
+            LockSupport.unpark(sender);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 하위 클래스의 수신 스레드가 받은 프레임을 넘깁니다. 자기 노드가 보낸 프레임과 형식이 맞지 않는 프레임은 버립니다.
+     */
+    protected void receive(byte[] frame, int length) {
+        List<CacheInvalidation> batch;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame, 0, length))) {
+            if (in.readInt() != MAGIC) {
+                return;
+            }
+            UUID sender = new UUID(in.readLong(), in.readLong());
+            if (nodeId.equals(sender)) {
+                return;
+            }
+            int count = in.readUnsignedShort();
+            batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String cacheName = in.readUTF();
+                batch.add(in.readBoolean() ? new CacheInvalidation(cacheName, in.readUTF()) : CacheInvalidation.clear(cacheName));
+            }
+        } catch (IOException e) {
+            logger.warn("캐시 무효화 프레임을 읽지 못했습니다. ({})", transportName, e);
+            return;
+        }
+        receivedCounter.increment(batch.size());
+        for (Consumer<List<CacheInvalidation>> listener : listeners) {
+            listener.accept(batch);
+        }
+    }
+
+    /**
+     * 수신 스레드가 오류를 연달아 만날 때 쉬는 시간을 계산합니다. 망가진 소켓에서 CPU 코어 하나를 계속 태우지 않기 위함입니다.
+     */
+    protected static long nextBackoffMillis(long previousMillis) {
+        return previousMillis == 0 ? MIN_RETRY_BACKOFF_MILLIS : Math.min(previousMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+    }
+
+    // 인터럽트되면 false 를 반환합니다. (수신 스레드 종료)
+    protected static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runSender() {
+        while (running || !pending.isEmpty()) {
+            if (pending.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            if (running) {
+                try {
+                    // 잇따른 무효화를 한 묶음으로 모으는 구간
+                    Thread.sleep(coalesceMillis);
+                } catch (InterruptedException e) {
+                    flush();
+                    return;
+                }
+            }
+            flush();
+        }
+    }
+
+    private void flush() {
+        List<CacheInvalidation> drained = new ArrayList<>();
+        Iterator<CacheInvalidation> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        Set<String> cleared = new HashSet<>();
+        for (CacheInvalidation invalidation : drained) {
+            if (invalidation.isClear()) {
+                cleared.add(invalidation.cacheName());
+            }
+        }
+        List<CacheInvalidation> batch = new ArrayList<>(drained.size());
+        for (CacheInvalidation invalidation : drained) {
+            if (invalidation.isClear() || !cleared.contains(invalidation.cacheName())) {
+                batch.add(invalidation);
+            }
+        }
+        try {
+            for (byte[] frame : encode(batch)) {
+                transmit(frame);
+                framesCounter.increment();
+            }
+            sentCounter.increment(batch.size());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("캐시 무효화 {}건을 보내지 못했습니다. ({})", batch.size(), transportName, e);
+        }
+    }
+
+    private List<byte[]> encode(List<CacheInvalidation> batch) throws IOException {
+        List<byte[]> frames = new ArrayList<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int count = 0;
+        for (CacheInvalidation invalidation : batch) {
+            ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+            DataOutputStream entry = new DataOutputStream(entryBytes);
+            entry.writeUTF(invalidation.cacheName());
+            entry.writeBoolean(!invalidation.isClear());
+            if (!invalidation.isClear()) {
+                entry.writeUTF(invalidation.key());
+            }
+            if (count > 0 && (HEADER_BYTES + body.size() + entryBytes.size() > maxPayloadBytes || count == 0xFFFF)) {
+                frames.add(frame(body, count));
+                body.reset();
+                count = 0;
+            }
+            entryBytes.writeTo(body);
+            count++;
+        }
+        if (count > 0) {
+            frames.add(frame(body, count));
+        }
+        return frames;
+    }
+
+    private byte[] frame(ByteArrayOutputStream body, int count) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + body.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeLong(nodeId.getMostSignificantBits());
+        out.writeLong(nodeId.getLeastSignificantBits());
+        out.writeShort(count);
+        body.writeTo(out);
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void start() {
+        try {
+            openTransport();
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 무효화 버스를 시작할 수 없습니다. (" + transportName + ")", e);
+        }
+        running = true;
+        senderThread = new Thread(this::runSender, "cache-invalidation-sender");
+        senderThread.setDaemon(true);
+        senderThread.start();
+        logger.info("캐시 무효화 버스 시작: {}, 노드 {}", transportName, nodeId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread sender = senderThread;
+        if (sender != null) {
+            // 남은 무효화를 보낸 뒤 종료
+            LockSupport.unpark(sender);
+            try {
+                sender.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        closeTransport();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.freeboard.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 노드별 로컬 캐시를 {@link CacheInvalidationBus} 로 서로 맞추는 CacheManager 입니다.
+ *
+ * 애플리케이션이 받는 캐시는 TransactionAwareCacheDecorator(BroadcastingCache(로컬 캐시)) 순서로 감싸져 있어,
+ * 트랜잭션 안의 evict/put 은 커밋된 뒤에 로컬에 적용되고 그때 다른 노드에도 알려집니다.
+ * (커밋 전에 지우면 다른 요청이 옛 값을 다시 읽어 채울 수 있기 때문)
+ */
+public class CoherentCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationBus bus;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CoherentCacheManager(CacheManager localCacheManager, CacheInvalidationBus bus) {
+        this.localCacheManager = localCacheManager;
+        this.bus = bus;
+        bus.subscribe(this::applyRemote);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache local = localCacheManager.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TransactionAwareCacheDecorator(new BroadcastingCache(local, bus)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    // 다른 노드에서 온 무효화는 다시 알리지 않도록 로컬 캐시에 바로 적용합니다.
+    private void applyRemote(List<CacheInvalidation> batch) {
+        for (CacheInvalidation invalidation : batch) {
+            Cache local = localCacheManager.getCache(invalidation.cacheName());
+            if (local == null) {
+                continue;
+            }
+            if (invalidation.isClear()) {
+                local.clear();
+            } else {
+                local.evict(invalidation.key());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.freeboard.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+
+/**
+ * UDP 멀티캐스트로 같은 그룹에 가입한 모든 노드에 무효화를 보냅니다. 별도 브로커나 피어 목록이 필요 없지만,
+ * 네트워크가 멀티캐스트를 지원해야 하고 전달이 보장되지 않으므로 잃어버린 무효화는 캐시 TTL 로 정리됩니다.
+ * 프레임은 IP 단편화가 없도록 max-payload-bytes(기본 1400) 이하로 나눠 보냅니다.
+ */
+public class MulticastCacheInvalidationBus extends CoalescingCacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(MulticastCacheInvalidationBus.class);
+    private static final int MAX_DATAGRAM_BYTES = 65_507;
+
+    private final InetSocketAddress group;
+    private final String interfaceName;
+    private final int timeToLive;
+
+    private MulticastSocket socket;
+    private NetworkInterface networkInterface;
+
+    public MulticastCacheInvalidationBus(MeterRegistry meterRegistry, long coalesceMillis, int maxPayloadBytes,
+                                         String groupAddress, int port, String interfaceName, int timeToLive) {
+        super("multicast", meterRegistry, coalesceMillis, maxPayloadBytes);
+        try {
+            this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 멀티캐스트 그룹 주소입니다: " + groupAddress, e);
+        }
+        if (!group.getAddress().isMulticastAddress()) {
+            throw new IllegalArgumentException("멀티캐스트 주소가 아닙니다: " + groupAddress);
+        }
+        this.interfaceName = interfaceName;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    protected void openTransport() throws IOException {
+        socket = new MulticastSocket(group.getPort());
+        socket.setTimeToLive(timeToLive);
+        if (interfaceName != null && !interfaceName.isBlank()) {
+            networkInterface = NetworkInterface.getByName(interfaceName);
+            if (networkInterface == null) {
+                throw new IOException("네트워크 인터페이스를 찾을 수 없습니다: " + interfaceName);
+            }
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.joinGroup(group, networkInterface);
+
+        Thread receiver = new Thread(this::runReceiver, "cache-invalidation-multicast");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    private void runReceiver() {
+        byte[] buffer = new byte[MAX_DATAGRAM_BYTES];
+        long backoffMillis = 0;
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (socket.isClosed()) {
+                    return;
+                }
+                backoffMillis = nextBackoffMillis(backoffMillis);
+                logger.warn("멀티캐스트 무효화 수신 오류, {}ms 후 다시 시도합니다.", backoffMillis, e);
+                if (!pause(backoffMillis)) {
+                    return;
+                }
+                continue;
+            }
+            backoffMillis = 0;
+            receive(packet.getData(), packet.getLength());
+        }
+    }
+
+    @Override
+    protected void transmit(byte[] frame) throws IOException {
+        socket.send(new DatagramPacket(frame, frame.length, group));
+    }
+
+    @Override
+    protected void closeTransport() {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.leaveGroup(group, networkInterface);
+        } catch (IOException e) {
+            logger.debug("멀티캐스트 그룹 탈퇴 실패", e);
+        }
+        socket.close();
+    }
+}
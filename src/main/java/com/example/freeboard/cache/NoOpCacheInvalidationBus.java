@@ -0,0 +1,18 @@
+package com.example.freeboard.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 버스. 전파할 다른 노드가 없으므로 아무것도 하지 않습니다.
+ */
+public class NoOpCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.freeboard.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고정된 피어 목록(host:port)에 TCP 로 무효화를 보냅니다. 멀티캐스트를 쓸 수 없는 네트워크용입니다.
+ *
+ * 노드마다 listen-port 에서 연결을 받고, 피어마다 연결 하나를 유지하며 길이(int) + 프레임 형식으로 씁니다.
+ * 보내다 실패한 피어는 연결을 닫고 다음 묶음에서 다시 연결합니다. (그 사이의 무효화는 캐시 TTL 로 정리)
+ * 피어 목록에 자기 자신이 있어도 노드 ID 로 걸러지므로 모든 노드가 같은 목록을 써도 됩니다.
+ */
+public class TcpPeerCacheInvalidationBus extends CoalescingCacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(TcpPeerCacheInvalidationBus.class);
+
+    private final int listenPort;
+    private final List<Peer> peers = new ArrayList<>();
+    private final int connectTimeoutMillis;
+    private final int maxPayloadBytes;
+    private final Set<Socket> inbound = ConcurrentHashMap.newKeySet();
+
+    private ServerSocket serverSocket;
+
+    public TcpPeerCacheInvalidationBus(MeterRegistry meterRegistry, long coalesceMillis, int maxPayloadBytes,
+                                       int listenPort, List<String> peerAddresses, int connectTimeoutMillis) {
+        super("tcp", meterRegistry, coalesceMillis, maxPayloadBytes);
+        this.listenPort = listenPort;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.maxPayloadBytes = maxPayloadBytes;
+        for (String address : peerAddresses) {
+            String trimmed = address.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.lastIndexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("피어 주소는 host:port 형식이어야 합니다: " + trimmed);
+            }
+            peers.add(new Peer(InetSocketAddress.createUnresolved(trimmed.substring(0, colon),
+                    Integer.parseInt(trimmed.substring(colon + 1)))));
+        }
+    }
+
+    @Override
+    protected void openTransport() throws IOException {
+        serverSocket = new ServerSocket(listenPort);
+        Thread acceptor = new Thread(this::runAcceptor, "cache-invalidation-tcp-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void runAcceptor() {
+        long backoffMillis = 0;
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                backoffMillis = 0;
+                inbound.add(socket);
+                Thread reader = new Thread(() -> readFrames(socket), "cache-invalidation-tcp-" + socket.getRemoteSocketAddress());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                backoffMillis = nextBackoffMillis(backoffMillis);
+                logger.warn("무효화 피어 연결 수락 실패, {}ms 후 다시 시도합니다.", backoffMillis, e);
+                if (!pause(backoffMillis)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void readFrames(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > maxPayloadBytes) {
+                    logger.warn("잘못된 무효화 프레임 길이 {} ({}), 연결을 닫습니다.", length, socket.getRemoteSocketAddress());
+                    return;
+                }
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                receive(frame, length);
+            }
+        } catch (EOFException e) {
+            // 피어가 연결을 닫음
+        } catch (IOException e) {
+            if (!socket.isClosed()) {
+                logger.debug("무효화 피어 연결 끊김 ({})", socket.getRemoteSocketAddress(), e);
+            }
+        } finally {
+            inbound.remove(socket);
+        }
+    }
+
+    // 전송 스레드 하나에서만 호출됩니다.
+    @Override
+    protected void transmit(byte[] frame) throws IOException {
+        IOException failure = null;
+        for (Peer peer : peers) {
+            try {
+                peer.send(frame, connectTimeoutMillis);
+            } catch (IOException e) {
+                peer.close();
+                failure = e;
+                logger.debug("무효화 피어 {} 전송 실패", peer.address, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    protected void closeTransport() {
+        for (Peer peer : peers) {
+            peer.close();
+        }
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            logger.debug("무효화 서버 소켓 닫기 실패", e);
+        }
+        for (Socket socket : inbound) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    private static final class Peer {
+        private final InetSocketAddress address;
+        private Socket socket;
+        private DataOutputStream out;
+
+        private Peer(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        private void send(byte[] frame, int connectTimeoutMillis) throws IOException {
+            if (socket == null) {
+                Socket connecting = new Socket();
+                connecting.setTcpNoDelay(true);
+                connecting.connect(new InetSocketAddress(address.getHostString(), address.getPort()), connectTimeoutMillis);
+                socket = connecting;
+                out = new DataOutputStream(new BufferedOutputStream(connecting.getOutputStream()));
+            }
+            out.writeInt(frame.length);
+            out.write(frame);
+            out.flush();
+        }
+
+        private void close() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // 다음 전송에서 다시 연결
+                }
+            }
+            socket = null;
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.freeboard.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측한 지연 시간으로 동시 실행 한도를 스스로 조절하는 리미터입니다. (gradient 방식)
+ *
+ * 짧은 구간의 평균 지연(shortRtt)과 긴 구간의 평균 지연(longRtt)을 비교해, 최근 지연이 평소보다 커지면
+ * gradient = longRtt / shortRtt (< 1) 만큼 한도를 줄이고, 지연이 평소 수준이면 sqrt(limit) 만큼 여유를 두고 늘립니다.
+ * DB 가 느려지면 커넥션 풀 앞에서 스레드가 쌓이기 전에 한도가 먼저 줄어들고, 한도를 넘는 요청은 기다리지 않고 바로 거절됩니다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double shortWindowWeight;
+    private final double longWindowWeight;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    // 지연 평균과 한도 갱신을 보호합니다. 반납하는 스레드가 기다리지 않도록 tryLock 만 사용합니다.
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${app.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${app.concurrency.min-limit:4}") int minLimit,
+                                      @Value("${app.concurrency.max-limit:200}") int maxLimit,
+                                      @Value("${app.concurrency.smoothing:0.2}") double smoothing,
+                                      @Value("${app.concurrency.short-window:10}") int shortWindow,
+                                      @Value("${app.concurrency.long-window:600}") int longWindow) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.shortWindowWeight = 2.0 / (shortWindow + 1);
+        this.longWindowWeight = 2.0 / (longWindow + 1);
+
+        Gauge.builder("freeboard.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 실행 한도")
+                .register(meterRegistry);
+        Gauge.builder("freeboard.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("현재 실행 중인 서비스 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 우선순위에 허용된 한도 안에 자리가 있으면 차지하고 true 를 반환합니다. 자리가 없으면 기다리지 않고 false 를 반환합니다.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.getLimitShare()));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고, 걸린 시간을 한도 계산에 반영합니다.
+     * 다른 스레드가 한도를 갱신하는 중이면 이번 표본은 버립니다. (지수 평균이라 일부 표본이 빠져도 추세는 같음)
+     */
+    public void release(long rttNanos) {
+        int inflightAtRelease = inflight.getAndDecrement();
+        if (!sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            onSample(rttNanos, inflightAtRelease);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private void onSample(long rttNanos, int inflightAtRelease) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * shortWindowWeight;
+        longRttNanos += (rttNanos - longRttNanos) * longWindowWeight;
+
+        // 지연이 계속 높은 상태로 굳으면 longRtt 도 따라 올라가 한도가 회복되지 않으므로, 격차가 크면 longRtt 를 끌어내립니다.
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / shortRttNanos));
+        double queueAllowance = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueAllowance;
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        // 한도의 절반도 쓰지 않는 동안에는 한도가 병목이 아니므로 늘리지는 않고 줄이기만 합니다.
+        if (newLimit > limit && inflightAtRelease < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
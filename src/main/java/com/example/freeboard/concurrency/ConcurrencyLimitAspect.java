@@ -0,0 +1,94 @@
+package com.example.freeboard.concurrency;
+
+import com.example.freeboard.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PostService / CommentService 호출을 적응형 동시 실행 한도로 감쌉니다.
+ *
+ * 트랜잭션(@Transactional)보다 바깥에서 실행되므로, 거절된 요청은 DB 커넥션을 잡기 전에 바로 503 으로 끝납니다.
+ * 서비스 메서드가 다른 서비스 메서드를 부르는 경우에는 바깥 호출이 이미 자리를 잡고 있으므로 다시 잡지 않습니다.
+ */
+@Aspect
+@Component
+@Order(1)
+public class ConcurrencyLimitAspect {
+
+    private static final ThreadLocal<Boolean> HOLDING_PERMIT = new ThreadLocal<>();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final Map<RequestPriority, Counter> rejectedCounters = new EnumMap<>(RequestPriority.class);
+
+    public ConcurrencyLimitAspect(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency.enabled:true}") boolean enabled) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejectedCounters.put(priority, Counter.builder("freeboard.concurrency.rejected")
+                    .tag("priority", priority.name())
+                    .description("동시 실행 한도 초과로 거절된 서비스 호출 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * com.example.freeboard.service.PostService.*(..)) || " +
+            "execution(public * com.example.freeboard.service.CommentService.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled || HOLDING_PERMIT.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        RequestPriority priority = resolvePriority();
+        if (!limiter.tryAcquire(priority)) {
+            rejectedCounters.get(priority).increment();
+            throw new ServiceOverloadedException("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        HOLDING_PERMIT.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HOLDING_PERMIT.remove();
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private RequestPriority resolvePriority() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return RequestPriority.NORMAL;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+
+        if (!"GET".equals(request.getMethod())) {
+            return RequestPriority.HIGH;
+        }
+        if (authenticated && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()))) {
+            return RequestPriority.HIGH;
+        }
+        return authenticated ? RequestPriority.NORMAL : RequestPriority.LOW;
+    }
+}
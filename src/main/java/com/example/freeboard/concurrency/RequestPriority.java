@@ -0,0 +1,21 @@
+package com.example.freeboard.concurrency;
+
+/**
+ * 동시 실행 한도를 나눠 쓰는 우선순위. 낮은 등급은 한도의 일부까지만 쓸 수 있으므로,
+ * 과부하가 오면 익명 읽기 요청부터 거절되고 관리자/쓰기 요청은 끝까지 자리를 확보합니다.
+ */
+public enum RequestPriority {
+    HIGH(1.0),    // 관리자 요청, 쓰기(POST/PUT/DELETE) 요청
+    NORMAL(0.9),  // 로그인한 사용자의 읽기 요청, 요청 밖(스케줄러 등)의 호출
+    LOW(0.75);    // 익명 읽기 요청
+
+    private final double limitShare;
+
+    RequestPriority(double limitShare) {
+        this.limitShare = limitShare;
+    }
+
+    public double getLimitShare() {
+        return limitShare;
+    }
+}
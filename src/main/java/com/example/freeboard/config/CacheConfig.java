@@ -0,0 +1,75 @@
+package com.example.freeboard.config;
+
+import com.example.freeboard.cache.CacheInvalidationBus;
+import com.example.freeboard.cache.CoherentCacheManager;
+import com.example.freeboard.cache.MulticastCacheInvalidationBus;
+import com.example.freeboard.cache.NoOpCacheInvalidationBus;
+import com.example.freeboard.cache.TcpPeerCacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 노드별 로컬 캐시(Caffeine)와, 여러 인스턴스에서 실행할 때 evict 를 다른 노드에 전파하는 무효화 버스 설정입니다.
+ * 전파 방식은 app.cache.invalidation.transport 로 고르며, 잃어버린 무효화는 캐시 스펙의 expireAfterWrite 가 정리합니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 사용자 이름 -> User (JWT 인증 시 매 요청 조회)
+    public static final String USERS = "users";
+    // 캐시는 아니지만 같은 무효화 버스로 전파되는 JWT 무효화 (TokenRevocationRegistry)
+    public static final String TOKEN_REVOCATIONS = "token-revocations";
+
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${app.cache.users.spec:maximumSize=10000,expireAfterWrite=5m}") String usersSpec) {
+        CaffeineCacheManager local = new CaffeineCacheManager();
+        // 등록한 캐시만 쓰고 알 수 없는 이름(다른 노드의 TOKEN_REVOCATIONS 등)으로 새 캐시를 만들지 않음
+        local.setCacheNames(List.of());
+        local.registerCustomCache(USERS, Caffeine.from(usersSpec).build());
+        return new CoherentCacheManager(local, cacheInvalidationBus);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "none", matchIfMissing = true)
+    public NoOpCacheInvalidationBus noOpCacheInvalidationBus() {
+        return new NoOpCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "multicast")
+    public MulticastCacheInvalidationBus multicastCacheInvalidationBus(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.coalesce-ms:20}") long coalesceMillis,
+            @Value("${app.cache.invalidation.max-payload-bytes:1400}") int maxPayloadBytes,
+            @Value("${app.cache.invalidation.multicast.group:239.255.42.99}") String group,
+            @Value("${app.cache.invalidation.multicast.port:45599}") int port,
+            @Value("${app.cache.invalidation.multicast.interface:}") String networkInterface,
+            @Value("${app.cache.invalidation.multicast.ttl:1}") int timeToLive) {
+        return new MulticastCacheInvalidationBus(meterRegistry, coalesceMillis, maxPayloadBytes,
+                group, port, networkInterface, timeToLive);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "tcp")
+    public TcpPeerCacheInvalidationBus tcpPeerCacheInvalidationBus(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.coalesce-ms:20}") long coalesceMillis,
+            @Value("${app.cache.invalidation.max-payload-bytes:1400}") int maxPayloadBytes,
+            @Value("${app.cache.invalidation.tcp.port:45600}") int port,
+            @Value("${app.cache.invalidation.tcp.peers:}") List<String> peers,
+            @Value("${app.cache.invalidation.tcp.connect-timeout-ms:1000}") int connectTimeoutMillis) {
+        return new TcpPeerCacheInvalidationBus(meterRegistry, coalesceMillis, maxPayloadBytes, port, peers,
+                connectTimeoutMillis);
+    }
+}
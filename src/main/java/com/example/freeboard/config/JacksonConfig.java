@@ -0,0 +1,22 @@
+package com.example.freeboard.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // PostResponseDto / CommentResponseDto 의 @JsonFilter ID (fields= 파라미터로 직렬화할 속성을 고를 때 사용)
+    public static final String POST_FILTER = "postFields";
+    public static final String COMMENT_FILTER = "commentFields";
+
+    /**
+     * fields 파라미터가 없는 응답에서는 필터 ID 를 찾지 못해도 모든 속성을 그대로 직렬화하도록 기본 FilterProvider 를 등록합니다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
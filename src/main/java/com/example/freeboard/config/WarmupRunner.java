@@ -0,0 +1,182 @@
+package com.example.freeboard.config;
+
+import com.example.freeboard.dto.CommentPageResponse;
+import com.example.freeboard.dto.PostListPage;
+import com.example.freeboard.dto.PostResponseDto;
+import com.example.freeboard.security.JwtTokenProvider;
+import com.example.freeboard.service.CommentService;
+import com.example.freeboard.service.CommentSort;
+import com.example.freeboard.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 첫 요청들이 느린 문제(차가운 JIT, 비어 있는 커넥션 풀과 Hibernate 쿼리 플랜 캐시)를 줄이기 위해
+ * 준비 완료(readiness) 전에 실제 핫 패스를 미리 호출해 두는 워밍업 단계입니다.
+ *
+ * ApplicationRunner 가 모두 끝난 뒤에야 readiness 가 ACCEPTING_TRAFFIC 이 되므로, 이 작업이 끝날 때까지
+ * /actuator/health/readiness 는 트래픽을 받지 않는 상태로 남습니다. 호출은 모두 읽기 전용(조회수 증가 없음)이며,
+ * 전체 시간은 app.warmup.budget-ms 를 넘지 않도록 단계/반복마다 확인합니다.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final JwtTokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final long budgetNanos;
+    private final int iterations;
+
+    public WarmupRunner(PostService postService,
+                        CommentService commentService,
+                        JwtTokenProvider tokenProvider,
+                        ObjectMapper objectMapper,
+                        DataSource dataSource,
+                        @Value("${app.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.warmup.budget-ms:10000}") long budgetMs,
+                        @Value("${app.warmup.iterations:200}") int iterations) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.tokenProvider = tokenProvider;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        this.iterations = iterations;
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+        void run(long deadline) throws Exception;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        List<Long> postIds = new ArrayList<>();
+        List<Object> samples = new ArrayList<>();
+
+        Map<String, Phase> phases = new LinkedHashMap<>();
+        phases.put("connection-pool", d -> fillConnectionPool());
+        phases.put("jwt", this::warmJwt);
+        phases.put("post-list", d -> warmPostList(d, postIds, samples));
+        phases.put("post-detail", d -> warmPostDetail(d, postIds, samples));
+        phases.put("comments", d -> warmComments(d, postIds, samples));
+        phases.put("jackson", d -> warmJackson(d, samples));
+
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, Phase> phase : phases.entrySet()) {
+            if (System.nanoTime() - deadline > 0) {
+                report.append(String.format(" %s=skipped", phase.getKey()));
+                continue;
+            }
+            long phaseStart = System.nanoTime();
+            try {
+                phase.getValue().run(deadline);
+                report.append(String.format(" %s=%dms", phase.getKey(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart)));
+            } catch (Exception e) {
+                report.append(String.format(" %s=failed", phase.getKey()));
+                logger.warn("워밍업 단계 실패: {}", phase.getKey(), e);
+            }
+        }
+        logger.info("워밍업 완료 ({}ms):{}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), report);
+    }
+
+    // 풀 최대 크기만큼 커넥션을 동시에 빌렸다가 돌려주어, 첫 요청들이 커넥션 생성 비용을 치르지 않게 합니다.
+    private void fillConnectionPool() throws Exception {
+        int size = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void warmJwt(long deadline) {
+        for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            String token = tokenProvider.generateToken("warmup");
+            tokenProvider.parseClaims(token);
+        }
+    }
+
+    private void warmPostList(long deadline, List<Long> postIds, List<Object> samples) {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            PostListPage page = postService.getAllPosts(pageable, null, false);
+            postService.getAllPosts(pageable, "warmup", false);
+            if (i == 0) {
+                page.getContent().forEach(post -> postIds.add(post.id()));
+                samples.add(page);
+            }
+        }
+    }
+
+    private void warmPostDetail(long deadline, List<Long> postIds, List<Object> samples) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            PostResponseDto post = postService.getPostByIdNoViewCount(postIds.get(i % postIds.size()));
+            if (i == 0) {
+                samples.add(post);
+            }
+        }
+    }
+
+    private void warmComments(long deadline, List<Long> postIds, List<Object> samples) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        CommentSort[] sorts = CommentSort.values();
+        for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            CommentPageResponse page = commentService.getCommentsByPostId(
+                    postIds.get(i % postIds.size()), sorts[i % sorts.length], null, 20, null);
+            if (i < sorts.length) {
+                samples.add(page);
+            }
+        }
+    }
+
+    private void warmJackson(long deadline, List<Object> samples) throws Exception {
+        if (samples.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < iterations && System.nanoTime() - deadline < 0; i++) {
+            for (Object sample : samples) {
+                objectMapper.writeValueAsBytes(sample);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.freeboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * 정적 자원 서빙 설정.
+ *
+ * 빌드(gradle/static-assets.gradle)가 HTML 의 JS/CSS 참조를 내용 해시가 붙은 이름(/js/main-<md5>.js)으로 바꾸고
+ * .gz(환경에 따라 .br)를 미리 만들어 둡니다. 여기서는 VersionResourceResolver 가 요청 경로의 해시를 검증해 원래 파일을 찾고,
+ * EncodedResourceResolver 가 Accept-Encoding 에 맞는 압축 파일을 골라 Content-Encoding/Vary 와 함께 내려줍니다.
+ * 해시 URL 은 내용이 바뀌면 달라지므로 JS/CSS 는 immutable 로 영구 캐시하고, HTML 은 매번 재검증(no-cache)하게 합니다.
+ * 빌드 결과(static-assets.properties)가 없으면(IDE 에서 소스 그대로 실행) HTML 이 해시 없는 경로를 참조하므로 JS/CSS 도 재검증합니다.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // 빌드가 해시 경로로 바꿨을 때만 클래스패스에 생기는 파일
+    private static final String ASSET_MANIFEST = "static-assets.properties";
+
+    private static final String[] FINGERPRINTED_DIRECTORIES = {"css", "js"};
+    private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        boolean fingerprinted = new ClassPathResource(ASSET_MANIFEST).exists();
+        CacheControl assetCacheControl = fingerprinted
+                ? CacheControl.maxAge(IMMUTABLE_MAX_AGE).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        for (String directory : FINGERPRINTED_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(assetCacheControl)
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+
+        // HTML 등 나머지 (스프링 부트의 기본 /** 매핑을 대신함)
+        registry.addResourceHandler("/**")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
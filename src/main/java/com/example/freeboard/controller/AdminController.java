@@ -1,14 +1,18 @@
 package com.example.freeboard.controller;
 
 import com.example.freeboard.dto.AdminCommentResponseDto;
+import com.example.freeboard.dto.AdminStatsResponse;
+import com.example.freeboard.dto.AdminUserDto;
 import com.example.freeboard.dto.PostResponseDto;
 import com.example.freeboard.dto.UserDto;
+import com.example.freeboard.service.AdminStatsRollup;
 import com.example.freeboard.service.CommentService;
 import com.example.freeboard.service.PostService;
 import com.example.freeboard.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
@@ -24,18 +28,32 @@ public class AdminController {
     private final UserService userService;   // 사용자 관리 서비스
     private final PostService postService;   // 게시글 관리 서비스
     private final CommentService commentService; // 댓글 관리 서비스
+    private final AdminStatsRollup adminStatsRollup; // 대시보드 통계 (메모리 집계)
+
+    // --- 대시보드 ---
+
+    /**
+     * 대시보드 통계 (합계, 일별 게시글 수, 게시글이 많은 작성자, 오늘 좋아요를 많이 받은 게시글)
+     * URL: GET /api/admin/stats
+     * 권한: ROLE_ADMIN
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<AdminStatsResponse> getStats() {
+        return ResponseEntity.ok(adminStatsRollup.getStats()); // 메모리의 스냅샷을 그대로 반환 (DB 조회 없음)
+    }
 
     // --- 사용자 관리 ---
 
     /**
-     * 전체 사용자 목록 조회 (페이징 처리)
-     * URL: GET /api/admin/users
+     * 전체 사용자 목록 조회 (페이징 처리, 활동 지표 포함)
+     * URL: GET /api/admin/users?sort=postCount,desc
+     * 정렬: id, username, postCount, commentCount, likesReceived, lastActiveAt
      * 권한: ROLE_ADMIN
      */
     @GetMapping("/users")
-    public ResponseEntity<Page<UserDto>> getAllUsers(
+    public ResponseEntity<Page<AdminUserDto>> getAllUsers(
             @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<UserDto> users = userService.getAllUsers(pageable); // 서비스에서 페이징 처리된 사용자 목록 가져오기
+        Page<AdminUserDto> users = userService.getAllUsers(pageable); // 서비스에서 페이징 처리된 사용자 목록 가져오기
         return ResponseEntity.ok(users); // 200 OK와 함께 반환
     }
 
@@ -61,6 +79,17 @@ public class AdminController {
         return ResponseEntity.ok(updatedUser); // 업데이트된 사용자 정보 반환
     }
 
+    /**
+     * 특정 사용자의 모든 토큰 무효화 (강제 로그아웃)
+     * URL: POST /api/admin/users/{userId}/revoke-tokens
+     * 권한: ROLE_ADMIN
+     */
+    @PostMapping("/users/{userId}/revoke-tokens")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+        userService.revokeTokens(userId);
+        return ResponseEntity.noContent().build();
+    }
+
 
     // --- 게시글 관리 ---
 
@@ -110,15 +139,18 @@ public class AdminController {
     // --- 댓글 관리 ---
 
     /**
-     * 모든 댓글 목록 조회 (검색 가능, 페이징 지원)
-     * URL: GET /api/admin/comments?search=검색어
+     * 모든 댓글 목록 조회 (내용 검색/작성자 필터, 페이징 지원)
+     * URL: GET /api/admin/comments?search=검색어&author=사용자이름
      * 권한: ROLE_ADMIN
+     * 전체 개수 없이 Slice 로 응답합니다. (last 가 false 이면 다음 페이지가 있음)
+     * 기본 정렬은 작성 순서와 같은 id 역순입니다. (기본 키 순서라 정렬 비용이 없음)
      */
     @GetMapping("/comments")
-    public ResponseEntity<Page<AdminCommentResponseDto>> getAllCommentsForAdmin(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestParam(required = false) String search) {
-        Page<AdminCommentResponseDto> comments = commentService.getAllCommentsForAdmin(pageable, search);
+    public ResponseEntity<Slice<AdminCommentResponseDto>> getAllCommentsForAdmin(
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String author) {
+        Slice<AdminCommentResponseDto> comments = commentService.searchCommentsForAdmin(search, author, pageable);
         return ResponseEntity.ok(comments);
     }
 
@@ -0,0 +1,232 @@
+package com.example.freeboard.controller;
+
+import com.example.freeboard.dto.AttachmentDto;
+import com.example.freeboard.entity.Attachment;
+import com.example.freeboard.entity.User;
+import com.example.freeboard.exception.ResourceNotFoundException;
+import com.example.freeboard.service.AttachmentService;
+import com.example.freeboard.service.ThumbnailService;
+import com.example.freeboard.service.ThumbnailSize;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+public class AttachmentController {
+
+    // Tomcat 의 sendfile 요청 속성: 서블릿이 반환된 뒤 커넥터가 FileChannel.transferTo 로 파일을 소켓에 바로 보냅니다.
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 응답은 sendfile 준비 비용이 더 크므로 직접 씁니다. (Tomcat DefaultServlet 의 기본값과 같음)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    // 저장 파일은 내용 해시로 주소가 정해져 바뀌지 않으므로 영구 캐시합니다.
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AttachmentService attachmentService;
+    private final ThumbnailService thumbnailService;
+
+    public AttachmentController(AttachmentService attachmentService, ThumbnailService thumbnailService) {
+        this.attachmentService = attachmentService;
+        this.thumbnailService = thumbnailService;
+    }
+
+    // 첨부 파일 업로드 (게시글 작성자만, multipart 필드 이름: files)
+    @PostMapping(value = "/api/posts/{postId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<AttachmentDto>> uploadAttachments(@PathVariable Long postId,
+                                                                 @RequestParam("files") List<MultipartFile> files,
+                                                                 @AuthenticationPrincipal User currentUser) {
+        List<AttachmentDto> uploaded = attachmentService.upload(postId, files, currentUser);
+        return new ResponseEntity<>(uploaded, HttpStatus.CREATED);
+    }
+
+    // 게시글의 첨부 목록
+    @GetMapping("/api/posts/{postId}/attachments")
+    public ResponseEntity<List<AttachmentDto>> getAttachments(@PathVariable Long postId) {
+        return ResponseEntity.ok(attachmentService.getAttachments(postId));
+    }
+
+    // 첨부 파일 삭제 (업로드한 사용자만)
+    @DeleteMapping("/api/posts/{postId}/attachments/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Long postId,
+                                                 @PathVariable Long attachmentId,
+                                                 @AuthenticationPrincipal User currentUser) {
+        attachmentService.delete(postId, attachmentId, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 첨부 파일 다운로드. ETag(내용 해시)/If-None-Match, 단일 Range/If-Range 를 지원하며
+     * 본문은 sendfile 또는 FileChannel.transferTo 로 사용자 공간 버퍼 복사 없이 보냅니다.
+     * 이미지는 size=small|medium 으로 썸네일을 요청할 수 있고, 썸네일이 아직 없으면 원본을 캐시 없이 내려주면서 생성을 요청합니다.
+     */
+    @GetMapping("/api/attachments/{id}")
+    public void downloadAttachment(@PathVariable Long id,
+                                   @RequestParam(required = false) String size,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(id);
+        Path original = attachmentService.resolveFile(attachment);
+        if (!Files.isRegularFile(original)) {
+            throw new ResourceNotFoundException("첨부 파일 내용을 찾을 수 없습니다: " + id);
+        }
+        String disposition = contentDisposition(attachment).toString();
+        String originalEtag = "\"" + attachment.getSha256() + "\"";
+
+        if (size != null && ThumbnailService.isSupported(attachment.getContentType())) {
+            ThumbnailSize thumbnailSize = ThumbnailSize.from(size);
+            Path variant = thumbnailService.variantIfReady(attachment.getSha256(), thumbnailSize);
+            if (variant != null) {
+                String etag = "\"" + attachment.getSha256() + "-" + thumbnailSize.name().toLowerCase(Locale.ROOT) + "\"";
+                serveFile(request, response, variant, etag, MediaType.IMAGE_JPEG_VALUE, disposition, IMMUTABLE_CACHE_CONTROL);
+                return;
+            }
+            // 같은 URL 이 곧 썸네일을 돌려주게 되므로, 대신 내려주는 원본은 매번 재검증하게 합니다.
+            thumbnailService.request(attachment.getSha256());
+            serveFile(request, response, original, originalEtag, attachment.getContentType(), disposition, "no-cache");
+            return;
+        }
+        serveFile(request, response, original, originalEtag, attachment.getContentType(), disposition, IMMUTABLE_CACHE_CONTROL);
+    }
+
+    private static void serveFile(HttpServletRequest request, HttpServletResponse response, Path file, String etag,
+                                  String contentType, String disposition, String cacheControl) throws IOException {
+        long fileLength = Files.size(file);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long length = fileLength;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.trim().equals(etag))) {
+            long[] parsed = parseRange(range, fileLength);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                length = parsed[1] - parsed[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + parsed[0] + "-" + parsed[1] + "/" + fileLength);
+            }
+        }
+
+        response.setContentType(contentType);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" 형식의 단일 범위를 [시작, 끝] 으로 해석합니다.
+     * 해석할 수 없거나 여러 범위이면 빈 배열(전체 전송), 만족할 수 없는 범위이면 null 을 반환합니다.
+     */
+    private static long[] parseRange(String header, long fileLength) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, fileLength - suffix);
+                end = fileLength - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? fileLength - 1 : Long.parseLong(spec.substring(dash + 1));
+                end = Math.min(end, fileLength - 1);
+            }
+            if (start >= fileLength || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    // 이미지(SVG 제외)는 브라우저에서 바로 보이도록 inline, 그 외에는 다운로드
+    private static ContentDisposition contentDisposition(Attachment attachment) {
+        String contentType = attachment.getContentType();
+        boolean inline = contentType.startsWith("image/") && !contentType.startsWith("image/svg");
+        return (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(attachment.getFilename(), StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -5,8 +5,11 @@ import com.example.freeboard.dto.AuthRequest; // 로그인 요청 DTO (기존 
 import com.example.freeboard.dto.JwtAuthenticationResponse; // JWT 응답 DTO
 import com.example.freeboard.dto.UserDto; // 사용자 정보 DTO
 import com.example.freeboard.entity.User; // User 엔티티 임포트
+import com.example.freeboard.security.JwtAuthenticationFilter;
 import com.example.freeboard.security.JwtTokenProvider;
+import com.example.freeboard.security.TokenRevocationRegistry;
 import com.example.freeboard.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,11 +29,14 @@ public class AuthController {
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationRegistry revocationRegistry;
 
-    public AuthController(UserService userService, AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider) {
+    public AuthController(UserService userService, AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
+                          TokenRevocationRegistry revocationRegistry) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
+        this.revocationRegistry = revocationRegistry;
     }
 
     /**
@@ -90,6 +96,29 @@ public class AuthController {
         return ResponseEntity.ok(new JwtAuthenticationResponse(jwt, "Bearer", authenticatedUsername, userRole));
     }
 
+    /**
+     * 로그아웃: 요청에 쓴 토큰을 만료 시각까지 무효화합니다. all=true 이면 이 사용자에게 지금까지 발급된 모든 토큰을 무효화합니다.
+     * 이미 무효이거나 토큰이 없는 요청도 같은 결과(204)를 돌려주므로 여러 번 호출해도 됩니다.
+     * @param claims 인증에 쓴 토큰의 클레임 (JwtAuthenticationFilter 가 설정, 인증되지 않았으면 null)
+     * @param all 모든 기기에서 로그아웃할지 여부
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestAttribute(name = JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, required = false) Claims claims,
+                                       @RequestParam(defaultValue = "false") boolean all) {
+        if (claims != null) {
+            if (all) {
+                revocationRegistry.revokeAllForUser(claims.getSubject());
+            } else if (claims.getId() != null) {
+                revocationRegistry.revokeToken(claims.getId(), claims.getExpiration());
+            } else {
+                // jti 가 없는 예전 토큰은 하나만 골라 무효화할 수 없으므로 사용자 단위로 무효화
+                revocationRegistry.revokeAllForUser(claims.getSubject());
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 현재 로그인된 사용자의 상세 정보를 반환하는 엔드포인트입니다.
      * 이 엔드포인트는 토큰 유효성 검사 및 사용자 역할 확인에 사용됩니다.
@@ -1,20 +1,22 @@
 package com.example.freeboard.controller;
 
 import com.example.freeboard.dto.CommentCreateRequest;
+import com.example.freeboard.dto.CommentPageResponse;
 import com.example.freeboard.dto.CommentResponseDto;
 import com.example.freeboard.dto.CommentUpdateRequest;
 import com.example.freeboard.entity.Comment;
 import com.example.freeboard.entity.User;
 import com.example.freeboard.service.CommentService;
+import com.example.freeboard.service.CommentSort;
 import com.example.freeboard.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
@@ -29,20 +31,36 @@ public class CommentController {
         this.userService = userService;
     }
 
-    // 특정 게시글의 댓글 조회 - 로그인 없이 접근 가능 (좋아요 상태를 위해 UserDetails 추가)
+    // 특정 게시글의 최상위 댓글을 커서 기반으로 조회 - 로그인 없이 접근 가능 (좋아요 상태를 위해 UserDetails 추가)
+    // sort: oldest(기본) | newest | likes, cursor: 이전 응답의 nextCursor, fields: 댓글에 담을 속성
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getCommentsByPostId(@PathVariable Long postId,
-                                                                        @AuthenticationPrincipal(expression = "null") UserDetails userDetails) {
+    public ResponseEntity<MappingJacksonValue> getCommentsByPostId(@PathVariable Long postId,
+                                                                   @RequestParam(required = false) String sort,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size,
+                                                                   @RequestParam(required = false) String fields,
+                                                                   @AuthenticationPrincipal(expression = "null") UserDetails userDetails) {
         User currentUser = null;
         if (userDetails != null) {
             currentUser = userService.findByUsername(userDetails.getUsername()).orElse(null);
         }
+        int pageSize = Math.max(1, Math.min(size, 100));
         // 서비스 메서드에 currentUser 전달하여 각 댓글의 좋아요 상태 포함
-        List<CommentResponseDto> commentDtos = commentService.getCommentsByPostId(postId, currentUser);
-        return ResponseEntity.ok(commentDtos);
+        CommentPageResponse page = commentService.getCommentsByPostId(postId, CommentSort.from(sort), cursor, pageSize, currentUser);
+        return ResponseEntity.ok(SparseFieldsets.filter(page, null, SparseFieldsets.parse(fields)));
     }
 
-    // 댓글 생성 (로그인 후 접근 가능)
+    // 특정 댓글과 그 아래 모든 답글을 트리로 조회 - 로그인 없이 접근 가능
+    @GetMapping("/{commentId}/thread")
+    public ResponseEntity<MappingJacksonValue> getThread(@PathVariable Long postId,
+                                                         @PathVariable Long commentId,
+                                                         @RequestParam(required = false) String fields,
+                                                         @AuthenticationPrincipal User currentUser) {
+        CommentResponseDto thread = commentService.getThread(postId, commentId, currentUser);
+        return ResponseEntity.ok(SparseFieldsets.filter(thread, null, SparseFieldsets.parse(fields)));
+    }
+
+    // 댓글 생성 (로그인 후 접근 가능, parentId 를 주면 답글)
     @PostMapping
     public ResponseEntity<CommentResponseDto> createComment(
             @PathVariable Long postId,
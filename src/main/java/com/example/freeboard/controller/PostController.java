@@ -1,28 +1,36 @@
 package com.example.freeboard.controller;
 
 import com.example.freeboard.dto.PostCreateRequest;
+import com.example.freeboard.dto.PostDetailResponse;
+import com.example.freeboard.dto.PostListPage;
 import com.example.freeboard.dto.PostResponseDto;
 import com.example.freeboard.dto.PostUpdateRequest;
 import com.example.freeboard.entity.User;
+import com.example.freeboard.exception.BadRequestException;
+import com.example.freeboard.service.CommentSort;
 import com.example.freeboard.service.PostService;
 import com.example.freeboard.service.UserService;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/posts")
 public class PostController {
 
+    private static final int MAX_BATCH_IDS = 100;
+
     private final PostService postService;
     private final UserService userService;
 
@@ -32,18 +40,46 @@ public class PostController {
     }
 
     // 게시글 목록 조회 (검색 기능 포함)
+    // fields: 응답에 담을 속성 (예: fields=id,title,likeCount). 목록은 fields 에 content 를 명시한 경우에만 본문을 읽습니다.
     @GetMapping
-    public ResponseEntity<Page<PostResponseDto>> getAllPosts(
+    public ResponseEntity<PostListPage> getAllPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestParam(required = false) String search) {
-        Page<PostResponseDto> posts = postService.getAllPosts(pageable, search);
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields) {
+        Set<String> postFields = SparseFieldsets.parse(fields);
+        boolean includeContent = postFields != null && postFields.contains("content");
+        PostListPage posts = postService.getAllPosts(pageable, search, includeContent);
+        // 목록은 PostListPageSerializer 가 직접 직렬화하므로 Jackson 필터 대신 fields 를 그대로 넘깁니다.
+        posts.setFields(postFields);
         return ResponseEntity.ok(posts);
     }
 
+    // 여러 게시글을 ID 목록으로 한 번에 조회 (예: /api/posts?ids=1,2,3, 최대 100개)
+    @GetMapping(params = "ids")
+    public ResponseEntity<MappingJacksonValue> getPostsByIds(@RequestParam List<Long> ids,
+                                                             @RequestParam(required = false) String fields,
+                                                             @AuthenticationPrincipal User currentUser) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_BATCH_IDS + "개입니다.");
+        }
+        Set<String> postFields = SparseFieldsets.parse(fields);
+        List<PostResponseDto> posts = postService.getPostsByIds(ids, Optional.ofNullable(currentUser), SparseFieldsets.includes(postFields, "content"));
+        return ResponseEntity.ok(SparseFieldsets.filter(posts, postFields, null));
+    }
+
+    // 인기 게시글 조회 (시간 감쇠 점수 기준, 메모리 랭킹에서 반환)
+    @GetMapping("/trending")
+    public ResponseEntity<MappingJacksonValue> getTrendingPosts(@RequestParam(defaultValue = "10") int size,
+                                                                @RequestParam(required = false) String fields) {
+        List<PostResponseDto> posts = postService.getTrendingPosts(Math.max(1, Math.min(size, 50)));
+        return ResponseEntity.ok(SparseFieldsets.filter(posts, SparseFieldsets.parse(fields), null));
+    }
+
     // 게시글 상세 조회 (조회수 증가 및 좋아요 상태 포함)
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponseDto> getPostById(@PathVariable Long id,
-                                                       @AuthenticationPrincipal(expression = "null") UserDetails userDetails) {
+    public ResponseEntity<MappingJacksonValue> getPostById(@PathVariable Long id,
+                                                           @RequestParam(required = false) String fields,
+                                                           @AuthenticationPrincipal(expression = "null") UserDetails userDetails) {
         Optional<User> currentUserOpt = Optional.empty();
         if (userDetails != null) {
             currentUserOpt = userService.findByUsername(userDetails.getUsername());
@@ -51,7 +87,21 @@ public class PostController {
 
         // 서비스 계층으로 현재 사용자 정보를 넘겨서 DTO를 완성
         PostResponseDto postDto = postService.getPostById(id, currentUserOpt);
-        return ResponseEntity.ok(postDto);
+        return ResponseEntity.ok(SparseFieldsets.filter(postDto, SparseFieldsets.parse(fields), null));
+    }
+
+    // 게시글 상세 + 첫 댓글 페이지를 한 번에 조회 (현재 사용자는 인증 정보의 User 를 그대로 사용)
+    @GetMapping("/{id}/full")
+    // fields 는 게시글, commentFields 는 댓글에 적용됩니다.
+    public ResponseEntity<MappingJacksonValue> getPostWithComments(@PathVariable Long id,
+                                                                   @RequestParam(required = false) String sort,
+                                                                   @RequestParam(defaultValue = "20") int size,
+                                                                   @RequestParam(required = false) String fields,
+                                                                   @RequestParam(required = false) String commentFields,
+                                                                   @AuthenticationPrincipal User currentUser) {
+        int commentPageSize = Math.max(1, Math.min(size, 100));
+        PostDetailResponse detail = postService.getPostWithComments(id, Optional.ofNullable(currentUser), CommentSort.from(sort), commentPageSize);
+        return ResponseEntity.ok(SparseFieldsets.filter(detail, SparseFieldsets.parse(fields), SparseFieldsets.parse(commentFields)));
     }
 
     // 게시글 수정용 상세 조회 (조회수 증가 없음)
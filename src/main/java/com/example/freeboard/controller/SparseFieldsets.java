@@ -0,0 +1,52 @@
+package com.example.freeboard.controller;
+
+import com.example.freeboard.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * fields= 쿼리 파라미터(쉼표로 구분한 속성 이름)를 해석해 응답 직렬화 필터를 만듭니다.
+ * 값이 없으면 null(모든 속성)을 의미하고, id 는 항상 포함됩니다.
+ */
+final class SparseFieldsets {
+
+    private SparseFieldsets() {
+    }
+
+    static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        names.add("id");
+        return names;
+    }
+
+    static boolean includes(Set<String> fields, String name) {
+        return fields == null || fields.contains(name);
+    }
+
+    static MappingJacksonValue filter(Object body, Set<String> postFields, Set<String> commentFields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (postFields != null || commentFields != null) {
+            value.setFilters(new SimpleFilterProvider()
+                    .setFailOnUnknownId(false)
+                    .addFilter(JacksonConfig.POST_FILTER, toFilter(postFields))
+                    .addFilter(JacksonConfig.COMMENT_FILTER, toFilter(commentFields)));
+        }
+        return value;
+    }
+
+    private static SimpleBeanPropertyFilter toFilter(Set<String> fields) {
+        return fields == null ? SimpleBeanPropertyFilter.serializeAll() : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.freeboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 대시보드 통계 (GET /api/admin/stats).
+ * AdminStatsRollup 이 메모리에서 유지하는 집계의 스냅샷이며, 조회할 때 DB 를 읽지 않습니다.
+ */
+@Getter
+@Builder
+public class AdminStatsResponse {
+    private long totalUsers;
+    private long totalPosts;              // 삭제되지 않은 게시글 (보관된 게시글 포함)
+    private long totalComments;
+    private long totalPostLikes;
+    private List<DailyCount> postsPerDay; // 오래된 날짜부터, 글이 없는 날은 0
+    private List<AuthorCount> topAuthors; // 게시글 수가 많은 작성자
+    private List<LikedPost> mostLikedToday; // 오늘 받은 좋아요가 많은 게시글
+    private LocalDateTime generatedAt;    // 스냅샷을 만든 시각
+
+    public record DailyCount(LocalDate date, long count) {
+    }
+
+    public record AuthorCount(String username, long postCount) {
+    }
+
+    public record LikedPost(Long postId, String title, String authorUsername, long likeCount) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.freeboard.dto;
+
+import com.example.freeboard.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 사용자 목록의 한 행. 활동 지표는 users 테이블에 유지되는 카운터를 그대로 읽으므로 사용자별 COUNT 쿼리가 없습니다.
+ */
+@Getter
+@Builder
+public class AdminUserDto {
+    private Long id;
+    private String username;
+    private String role;
+    private LocalDateTime createdAt;
+    private Integer postCount;
+    private Integer commentCount;
+    private Integer likesReceived;
+    private LocalDateTime lastActiveAt;
+
+    public static AdminUserDto fromEntity(User user) {
+        return AdminUserDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .role(user.getRole().name())
+                .createdAt(user.getCreatedAt())
+                .postCount(user.getPostCount())
+                .commentCount(user.getCommentCount())
+                .likesReceived(user.getLikesReceived())
+                .lastActiveAt(user.getLastActiveAt())
+                .build();
+    }
+}
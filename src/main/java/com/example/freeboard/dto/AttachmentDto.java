@@ -0,0 +1,43 @@
+package com.example.freeboard.dto;
+
+import com.example.freeboard.entity.Attachment;
+import com.example.freeboard.service.ThumbnailService;
+import com.example.freeboard.service.ThumbnailSize;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+@Builder
+public class AttachmentDto {
+    private Long id;
+    private String filename;
+    private String contentType;
+    private Long size;
+    private String url;
+    // 썸네일을 만들 수 있는 이미지에만 채워짐 (썸네일이 준비되기 전에는 원본이 내려감)
+    private String thumbnailUrl;
+    private String previewUrl;
+
+    public static AttachmentDto from(Attachment attachment) {
+        boolean thumbnails = ThumbnailService.isSupported(attachment.getContentType());
+        return AttachmentDto.builder()
+                .id(attachment.getId())
+                .filename(attachment.getFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .url(url(attachment.getId()))
+                .thumbnailUrl(thumbnails ? thumbnailUrl(attachment.getId(), ThumbnailSize.SMALL) : null)
+                .previewUrl(thumbnails ? thumbnailUrl(attachment.getId(), ThumbnailSize.MEDIUM) : null)
+                .build();
+    }
+
+    public static String url(Long attachmentId) {
+        return "/api/attachments/" + attachmentId;
+    }
+
+    public static String thumbnailUrl(Long attachmentId, ThumbnailSize size) {
+        return url(attachmentId) + "?size=" + size.name().toLowerCase(Locale.ROOT);
+    }
+}
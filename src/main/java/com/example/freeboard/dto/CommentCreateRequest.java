@@ -11,4 +11,7 @@ public class CommentCreateRequest {
     @NotBlank(message = "댓글 내용은 필수입니다.")
     @Size(max = 1000, message = "댓글 내용은 최대 1000자까지 가능합니다.")
     private String content;
+
+    // 답글일 경우 부모 댓글 ID (최상위 댓글이면 생략)
+    private Long parentId;
 }
\ No newline at end of file
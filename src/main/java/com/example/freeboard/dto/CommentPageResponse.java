@@ -0,0 +1,23 @@
+package com.example.freeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 페이지 응답.
+ * comments 에는 최상위 댓글만 담기며, 답글은 replyCount 를 보고 스레드 API 로 따로 불러옵니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<CommentResponseDto> comments;
+    private String nextCursor;   // 다음 페이지 요청 시 그대로 넘길 불투명 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private long totalCount;     // 답글을 포함한 게시글의 전체 댓글 수 (Post.commentCount)
+}
@@ -1,25 +1,35 @@
 package com.example.freeboard.dto;
 
+import com.example.freeboard.config.JacksonConfig;
 import com.example.freeboard.entity.Comment;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(JacksonConfig.COMMENT_FILTER) // fields= 파라미터로 직렬화할 속성 선택
 public class CommentResponseDto {
     private Long id;
     private String content;
     private String authorUsername;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // 낙관적 잠금 버전 (수정 요청에 그대로 보냄)
     private Long likeCount; // 좋아요 수 필드
     private boolean likedByCurrentUser; // 현재 로그인한 사용자가 좋아요를 눌렀는지 여부
+    private Long parentId; // 부모 댓글 ID (최상위 댓글이면 null)
+    private Integer depth; // 스레드 깊이 (최상위 댓글 = 0)
+    private Integer replyCount; // 하위 전체 답글 수
+    private List<CommentResponseDto> replies = new ArrayList<>(); // 트리로 조립된 바로 아래 답글들
 
 
     // 생성자 오버로딩 1: Comment 엔티티 + 좋아요 여부 + 좋아요 수를 직접 전달받아 DTO 생성
@@ -29,8 +39,12 @@ public class CommentResponseDto {
         this.authorUsername = comment.getAuthor().getUsername();
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
+        this.version = comment.getVersion();
         this.likeCount = likeCount;
         this.likedByCurrentUser = likedByCurrentUser;
+        this.parentId = comment.getParentId();
+        this.depth = comment.getDepth();
+        this.replyCount = comment.getReplyCount();
     }
 
     // 생성자 오버로딩 2: 좋아요 수를 엔티티에서 가져오고, 없으면 기본값 0으로 설정
@@ -40,7 +54,11 @@ public class CommentResponseDto {
         this.authorUsername = comment.getAuthor().getUsername();
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
+        this.version = comment.getVersion();
         this.likeCount = comment.getLikeCount() != null ? comment.getLikeCount() : 0L;
         this.likedByCurrentUser = likedByCurrentUser;
+        this.parentId = comment.getParentId();
+        this.depth = comment.getDepth();
+        this.replyCount = comment.getReplyCount();
     }
 }
\ No newline at end of file
@@ -11,4 +11,7 @@ public class CommentUpdateRequest {
     @NotBlank(message = "댓글 내용은 필수입니다.")
     @Size(max = 1000, message = "댓글 내용은 최대 1000자까지 가능합니다.")
     private String content;
+
+    // 댓글을 읽을 때 받은 버전. 보내면 그 사이 다른 수정이 있었을 때 409 로 거절합니다.
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.freeboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebSocket(/topic/posts/{postId})으로 전송되는 게시글 카운터 프레임입니다.
+ * 전송 주기 사이에 바뀐 값만 채워지며, 바뀌지 않은 항목은 null 로 남아 JSON 에서 제외됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostCounterMessage {
+    private final Long postId;
+    private final Integer viewCount;
+    private final Long likeCount;
+    private final Map<Long, Long> commentLikeCounts; // 댓글 ID -> 좋아요 수
+
+    public static PostCounterMessage ofViewCount(Long postId, Integer viewCount) {
+        return new PostCounterMessage(postId, viewCount, null, null);
+    }
+
+    public static PostCounterMessage ofLikeCount(Long postId, Long likeCount) {
+        return new PostCounterMessage(postId, null, likeCount, null);
+    }
+
+    public static PostCounterMessage ofCommentLikeCount(Long postId, Long commentId, Long likeCount) {
+        return new PostCounterMessage(postId, null, null, Collections.singletonMap(commentId, likeCount));
+    }
+
+    // 아직 전송되지 않은 프레임(previous)에 최신 값(latest)을 덮어써 하나의 프레임으로 합칩니다.
+    public static PostCounterMessage merge(PostCounterMessage previous, PostCounterMessage latest) {
+        Map<Long, Long> commentLikeCounts = previous.commentLikeCounts;
+        if (latest.commentLikeCounts != null) {
+            if (commentLikeCounts == null) {
+                commentLikeCounts = latest.commentLikeCounts;
+            } else {
+                commentLikeCounts = new HashMap<>(commentLikeCounts);
+                commentLikeCounts.putAll(latest.commentLikeCounts);
+            }
+        }
+        return new PostCounterMessage(
+                previous.postId,
+                latest.viewCount != null ? latest.viewCount : previous.viewCount,
+                latest.likeCount != null ? latest.likeCount : previous.likeCount,
+                commentLikeCounts);
+    }
+}
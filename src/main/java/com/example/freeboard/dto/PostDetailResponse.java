@@ -0,0 +1,18 @@
+package com.example.freeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시글 상세 + 첫 댓글 페이지 (GET /api/posts/{id}/full)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailResponse {
+    private PostResponseDto post;
+    private CommentPageResponse comments;
+}
@@ -0,0 +1,44 @@
+package com.example.freeboard.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 목록 응답의 페이지 봉투. Spring 의 PageImpl 과 달리 pageable/sort 객체 없이
+ * 프런트엔드가 쓰는 값(content, number, size, totalElements, totalPages, first, last)만 담습니다.
+ * 직렬화는 PostListPageSerializer 가 JsonGenerator 로 직접 수행합니다.
+ */
+@Getter
+@JsonSerialize(using = PostListPageSerializer.class)
+public class PostListPage {
+    private final List<PostListRow> content;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    // fields= 로 고른 속성 (null 이면 모든 속성)
+    @Setter
+    private Set<String> fields;
+
+    public PostListPage(Page<PostListRow> page) {
+        this.content = page.getContent();
+        this.number = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+    }
+
+    public boolean isFirst() {
+        return number == 0;
+    }
+
+    public boolean isLast() {
+        return number + 1 >= totalPages;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.freeboard.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * PostListPage 를 JsonGenerator 로 곧장 쓰는 스트리밍 직렬화기입니다.
+ *
+ * 리플렉션 기반 BeanSerializer 대신 필드를 직접 쓰고, 필드 이름은 미리 인코딩해 둔 SerializedString 을,
+ * 날짜는 캐시한 DateTimeFormatter 와 스레드별로 재사용하는 버퍼를 사용하므로 행마다 생기는 임시 객체가 거의 없습니다.
+ * null 값은 쓰지 않습니다.
+ */
+public class PostListPageSerializer extends StdSerializer<PostListPage> {
+
+    // Jackson(JavaTimeModule) 의 기본 LocalDateTime 표현과 같은 ISO-8601 형식
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString NUMBER = new SerializedString("number");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString LAST = new SerializedString("last");
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString EXCERPT = new SerializedString("excerpt");
+    private static final SerializableString SNIPPET = new SerializedString("snippet");
+    private static final SerializableString THUMBNAIL_URL = new SerializedString("thumbnailUrl");
+    private static final SerializableString AUTHOR_USERNAME = new SerializedString("authorUsername");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString VIEW_COUNT = new SerializedString("viewCount");
+    private static final SerializableString LIKE_COUNT = new SerializedString("likeCount");
+    private static final SerializableString COMMENT_COUNT = new SerializedString("commentCount");
+
+    // 날짜 문자열을 만들 때 재사용하는 스레드별 버퍼
+    private static final ThreadLocal<DateBuffer> DATE_BUFFER = ThreadLocal.withInitial(DateBuffer::new);
+
+    public PostListPageSerializer() {
+        super(PostListPage.class);
+    }
+
+    @Override
+    public void serialize(PostListPage page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Set<String> fields = page.getFields();
+        boolean title = fields == null || fields.contains("title");
+        boolean content = fields == null || fields.contains("content");
+        boolean excerpt = fields == null || fields.contains("excerpt");
+        boolean snippet = fields == null || fields.contains("snippet");
+        boolean thumbnailUrl = fields == null || fields.contains("thumbnailUrl");
+        boolean author = fields == null || fields.contains("authorUsername");
+        boolean createdAt = fields == null || fields.contains("createdAt");
+        boolean updatedAt = fields == null || fields.contains("updatedAt");
+        boolean viewCount = fields == null || fields.contains("viewCount");
+        boolean likeCount = fields == null || fields.contains("likeCount");
+        boolean commentCount = fields == null || fields.contains("commentCount");
+        DateBuffer dateBuffer = DATE_BUFFER.get();
+
+        gen.writeStartObject();
+        gen.writeFieldName(CONTENT);
+        gen.writeStartArray();
+        for (PostListRow row : page.getContent()) {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(row.id());
+            if (title) {
+                writeString(gen, TITLE, row.title());
+            }
+            if (content) {
+                writeString(gen, CONTENT, row.content());
+            }
+            if (excerpt) {
+                writeString(gen, EXCERPT, row.excerpt());
+            }
+            if (snippet) {
+                writeString(gen, SNIPPET, row.snippet());
+            }
+            if (thumbnailUrl) {
+                writeString(gen, THUMBNAIL_URL, row.thumbnailUrl());
+            }
+            if (author) {
+                writeString(gen, AUTHOR_USERNAME, row.authorUsername());
+            }
+            if (createdAt) {
+                writeDateTime(gen, CREATED_AT, row.createdAt(), dateBuffer);
+            }
+            if (updatedAt) {
+                writeDateTime(gen, UPDATED_AT, row.updatedAt(), dateBuffer);
+            }
+            if (viewCount) {
+                writeNumber(gen, VIEW_COUNT, row.viewCount());
+            }
+            if (likeCount) {
+                writeNumber(gen, LIKE_COUNT, row.likeCount());
+            }
+            if (commentCount) {
+                writeNumber(gen, COMMENT_COUNT, row.commentCount());
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Integer value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value, DateBuffer buffer)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            int length = buffer.format(value);
+            gen.writeString(buffer.chars, 0, length);
+        }
+    }
+
+    private static final class DateBuffer {
+        private final StringBuilder builder = new StringBuilder(32);
+        private char[] chars = new char[32];
+
+        private int format(LocalDateTime value) {
+            builder.setLength(0);
+            DATE_TIME.formatTo(value, builder);
+            int length = builder.length();
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            builder.getChars(0, length, chars, 0);
+            return length;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.freeboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 행. JPQL 생성자 표현식(SELECT new ...)으로 쿼리 결과에서 바로 만들어지며,
+ * 엔티티/빌더/DTO 를 거치지 않고 PostListPageSerializer 가 그대로 JSON 으로 씁니다.
+ * 본문이 필요 없는 조회는 content 없는 생성자를 사용하므로 TEXT 컬럼을 읽지 않습니다.
+ * snippet 은 검색 결과에서만 채워지는 하이라이트된 발췌문(HTML), thumbnailUrl 은 첫 번째 이미지 첨부의 작은 썸네일입니다.
+ */
+public record PostListRow(Long id,
+                          String title,
+                          String content,
+                          String excerpt,
+                          String authorUsername,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt,
+                          Integer viewCount,
+                          Integer likeCount,
+                          Integer commentCount,
+                          String snippet,
+                          String thumbnailUrl) {
+
+    public PostListRow(Long id, String title, String content, String excerpt, String authorUsername,
+                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                       Integer viewCount, Integer likeCount, Integer commentCount) {
+        this(id, title, content, excerpt, authorUsername, createdAt, updatedAt, viewCount, likeCount, commentCount, null, null);
+    }
+
+    public PostListRow(Long id, String title, String excerpt, String authorUsername,
+                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                       Integer viewCount, Integer likeCount, Integer commentCount) {
+        this(id, title, null, excerpt, authorUsername, createdAt, updatedAt, viewCount, likeCount, commentCount, null, null);
+    }
+
+    public PostListRow withSnippet(String snippet) {
+        return new PostListRow(id, title, content, excerpt, authorUsername, createdAt, updatedAt,
+                viewCount, likeCount, commentCount, snippet, thumbnailUrl);
+    }
+
+    public PostListRow withThumbnailUrl(String thumbnailUrl) {
+        return new PostListRow(id, title, content, excerpt, authorUsername, createdAt, updatedAt,
+                viewCount, likeCount, commentCount, snippet, thumbnailUrl);
+    }
+}
@@ -1,27 +1,35 @@
 package com.example.freeboard.dto;
 
+import com.example.freeboard.config.JacksonConfig;
 import com.example.freeboard.entity.Post;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
 @Builder
+@JsonFilter(JacksonConfig.POST_FILTER) // fields= 파라미터로 직렬화할 속성 선택
 public class PostResponseDto {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private String authorUsername;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // 낙관적 잠금 버전 (수정 요청에 그대로 보냄)
     private Integer viewCount;
     private Long likeCount;
     private boolean likedByCurrentUser;
     private Long commentCount;
     private boolean deleted;
+    private boolean archived; // 보관 테이블에서 읽은 게시글 (읽기 전용)
+    private List<AttachmentDto> attachments; // 상세/ID 목록 조회에서만 채워짐
 
     // Post 엔티티를 DTO로 변환하는 정적 메서드 (관리자용 - 모든 필드 포함)
     public static PostResponseDto fromEntityForAdmin(Post post, Long likeCount, Long commentCount) {
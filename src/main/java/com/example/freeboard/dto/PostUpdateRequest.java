@@ -15,4 +15,7 @@ public class PostUpdateRequest {
     @NotBlank(message = "내용은 필수입니다.")
     @Size(max = 65535, message = "내용은 최대 65535자까지 가능합니다.") // TEXT 타입에 맞춰 적절히 조절
     private String content;
+
+    // 수정 화면을 열 때 받은 버전. 보내면 그 사이 다른 수정이 있었을 때 덮어쓰지 않고 409 로 거절합니다. (없으면 마지막 저장이 이김)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+// src/main/java/com/example/freeboard/entity/ArchivedComment.java
+package com.example.freeboard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글의 댓글. 컬럼은 comment 테이블과 같습니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "archived_comments", indexes = {
+        @Index(name = "idx_archived_comment_post_path", columnList = "post_id, path"),
+        @Index(name = "idx_archived_comment_user", columnList = "user_id")
+})
+public class ArchivedComment {
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE) // 보관된 게시글이 삭제/복원되면 같이 삭제
+    private ArchivedPost post;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User author;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    private Integer likeCount = 0;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false, length = Comment.PATH_SEGMENT_LENGTH * Comment.MAX_DEPTH)
+    private String path = "";
+
+    private Integer depth = 0;
+    private Integer replyCount = 0;
+}
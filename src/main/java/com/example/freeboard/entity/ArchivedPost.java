@@ -0,0 +1,53 @@
+// src/main/java/com/example/freeboard/entity/ArchivedPost.java
+package com.example.freeboard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(cold) 테이블로 옮겨진 게시글. 컬럼은 post 테이블과 같고, 옮긴 시각(archivedAt)만 추가됩니다.
+ * 행 이동은 PostArchiveService 의 네이티브 INSERT ... SELECT 로만 이루어지며 ID 는 원래 게시글 ID 를 그대로 씁니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "archived_posts", indexes = @Index(name = "idx_archived_post_user_deleted", columnList = "user_id, deleted"))
+public class ArchivedPost {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(length = Post.EXCERPT_MAX_LENGTH)
+    private String excerpt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE) // 탈퇴 시 보관된 게시글도 함께 삭제
+    private User author;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    private Integer viewCount = 0;
+    private Integer likeCount = 0;
+    private Integer commentCount = 0;
+    private boolean deleted = false;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,60 @@
+package com.example.freeboard.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부 파일의 메타데이터. 파일 내용은 AttachmentStorage 에 SHA-256 해시 경로로 저장되며,
+ * 같은 내용의 파일은 여러 첨부가 하나의 저장 파일(sha256)을 함께 가리킵니다.
+ *
+ * 게시글은 보관 테이블(archived_posts)로 옮겨졌다가 복원될 수 있으므로 post 테이블에 FK 를 걸지 않고 ID 만 저장합니다.
+ * (보관/복원 시 첨부 행을 옮길 필요가 없음) 게시글 영구 삭제 시에는 AttachmentService 가 함께 지웁니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "attachments", indexes = {
+        @Index(name = "idx_attachment_post", columnList = "post_id, id"),
+        @Index(name = "idx_attachment_sha256", columnList = "sha256")
+})
+public class Attachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE) // 탈퇴 시 업로드한 첨부도 함께 삭제
+    private User uploader;
+
+    // 파일 내용의 SHA-256 (소문자 16진수), 저장 경로와 ETag 로 사용
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -11,7 +11,9 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
@@ -19,7 +21,19 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path"), // 스레드/서브트리 범위 조회용
+        @Index(name = "idx_comment_post_depth_created", columnList = "post_id, depth, created_at, id"), // 커서 페이징 (oldest/newest)
+        @Index(name = "idx_comment_post_depth_likes", columnList = "post_id, depth, like_count, id"), // 커서 페이징 (likes)
+        @Index(name = "idx_comment_user", columnList = "user_id, id") // 작성자별 댓글 (관리자 필터, 탈퇴)
+})
 public class Comment {
+    // 경로 한 단계의 길이 (8자리 36진수 ID + 구분자 '/')
+    public static final int PATH_SEGMENT_LENGTH = 9;
+    // 답글 최대 깊이 (최상위 댓글 depth = 0)
+    public static final int MAX_DEPTH = 10;
+
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,8 +56,29 @@ public class Comment {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 버전 (본문 수정 시에만 올라감)
+    @Version
+    private Long version;
+
+    // 좋아요 수/답글 수는 벌크 UPDATE 로만 증감되므로 엔티티 저장 대상에서 뺍니다. (updatable = false)
+    @Column(updatable = false)
     private Integer likeCount = 0;
 
+    // 부모 댓글 ID (최상위 댓글이면 null). 서브트리 삭제는 path 범위로 처리하므로 FK 연관관계는 두지 않습니다.
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // materialized path: 루트부터 자신까지의 ID 를 고정 길이로 이어 붙인 값 (예: "0000000a/0000000k/")
+    // path 순으로 정렬하면 스레드 전체가 전위 순회(부모 -> 자식) 순서가 됩니다.
+    @Column(nullable = false, length = PATH_SEGMENT_LENGTH * MAX_DEPTH)
+    private String path = "";
+
+    private Integer depth = 0;
+
+    // 하위 전체(서브트리) 답글 수. 답글 작성/삭제 시 조상 댓글들에 증감됩니다.
+    @Column(updatable = false)
+    private Integer replyCount = 0;
+
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<CommentLike> likes = new HashSet<>();
 
@@ -56,4 +91,20 @@ public class Comment {
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    // ID 를 고정 길이 경로 조각으로 변환합니다. 길이가 같으므로 문자열 정렬이 곧 ID 순 정렬입니다.
+    public static String pathSegment(Long id) {
+        String encoded = Long.toString(id, 36);
+        return "00000000".substring(encoded.length()) + encoded + "/";
+    }
+
+    // 경로에 포함된 조상 댓글 ID 목록 (자기 자신 제외)
+    public List<Long> getAncestorIds() {
+        List<Long> ancestorIds = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            int start = i * PATH_SEGMENT_LENGTH;
+            ancestorIds.add(Long.parseLong(path.substring(start, start + PATH_SEGMENT_LENGTH - 1), 36));
+        }
+        return ancestorIds;
+    }
 }
\ No newline at end of file
@@ -14,7 +14,8 @@ import org.hibernate.annotations.OnDeleteAction;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "comment_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "user_id"}))
+@Table(name = "comment_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "user_id"}),
+        indexes = @Index(name = "idx_comment_likes_user", columnList = "user_id, comment_id")) // 사용자가 누른 좋아요
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,67 @@
+package com.example.freeboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * 관리자 댓글 검색용 트라이그램 역색인의 한 행 (트라이그램 코드, 댓글 ID).
+ *
+ * 트라이그램 코드는 소문자로 바꾼 본문의 연속된 코드 포인트 3개를 21비트씩 이어 붙인 값이라 충돌이 없고,
+ * 문자열 비교(콜레이션, 후행 공백 무시 등)의 영향을 받지 않습니다. 인덱싱 규칙은 CommentSearchIndex 를 참고하세요.
+ * 댓글이 삭제되면(서브트리 벌크 삭제, 보관 이동, 사용자 탈퇴 포함) DB 의 ON DELETE CASCADE 로 함께 지워집니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(CommentTrigram.Key.class)
+@Table(name = "comment_trigrams", indexes = {
+        @Index(name = "idx_comment_trigram_lookup", columnList = "trigram, comment_id") // 트라이그램 -> 댓글 목록
+})
+public class CommentTrigram implements Persistable<CommentTrigram.Key> {
+
+    @Id
+    private Long trigram;
+
+    @Id
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    // 외래 키(ON DELETE CASCADE) 생성용 읽기 전용 연관관계
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "comment_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment comment;
+
+    public CommentTrigram(Long trigram, Long commentId) {
+        this.trigram = trigram;
+        this.commentId = commentId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(trigram, commentId);
+    }
+
+    // 항상 새 행으로만 저장하므로(변경은 삭제 후 추가) save 가 병합용 SELECT 없이 바로 INSERT 하게 합니다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long trigram;
+        private Long commentId;
+    }
+}
@@ -18,7 +18,14 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_post_deleted_created", columnList = "deleted, created_at, id"), // 활성 목록 (최신순) / 활성 글 수
+        @Index(name = "idx_post_user_deleted", columnList = "user_id, deleted") // 작성자별 글 (탈퇴, 활동 지표 재계산)
+})
 public class Post {
+    // excerpt 컬럼 길이 (ExcerptGenerator 가 만드는 발췌문의 최대 길이)
+    public static final int EXCERPT_MAX_LENGTH = 300;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,6 +36,11 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록/검색 결과용 발췌문 (마크업을 걷어낸 본문 앞부분). 작성/수정 시 ExcerptGenerator 로 계산하며,
+    // 이 컬럼이 생기기 전의 게시글은 PostExcerptBackfillJob 이 채울 때까지 null 입니다.
+    @Column(length = EXCERPT_MAX_LENGTH)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -40,10 +52,23 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 낙관적 잠금 버전. 제목/본문 수정처럼 엔티티를 저장할 때만 올라가며, 동시에 수정하면 늦게 커밋하는 쪽이 실패합니다.
+    @Version
+    private Long version;
+
+    // 조회수/좋아요 수는 벌크 UPDATE(원자적 증감)로만 바뀝니다. 엔티티 저장으로 읽어 둔 옛 값을 덮어쓰지 않고 버전도 올리지 않도록 updatable = false.
+    @Column(updatable = false)
     private Integer viewCount = 0;
 
+    @Column(updatable = false)
     private Integer likeCount = 0;
 
+    // 답글을 포함한 댓글 수. 댓글 작성/삭제 시 벌크 UPDATE 로만 증감되어 목록에서 COUNT 쿼리를 대신합니다.
+    // (updatable = false: 게시글 엔티티를 저장할 때 읽어 둔 옛 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
+    private Integer commentCount = 0;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<PostLike> likes = new HashSet<>();
 
@@ -9,12 +9,17 @@ import lombok.AllArgsConstructor;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}))
+@Table(name = "post_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}), indexes = {
+        @Index(name = "idx_post_likes_user", columnList = "user_id, post_id"), // 사용자가 누른 좋아요
+        @Index(name = "idx_post_likes_created", columnList = "created_at, post_id") // 최근 좋아요 집계
+})
 public class PostLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,4 +33,13 @@ public class PostLike {
     @JoinColumn(name = "user_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
+
+    // 관리자 통계의 '오늘 좋아요를 많이 받은 게시글' 초기화에 사용
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
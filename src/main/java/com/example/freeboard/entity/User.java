@@ -15,7 +15,13 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 사용자 목록의 활동 지표 정렬용 (동률은 id 순)
+        @Index(name = "idx_users_post_count", columnList = "post_count, id"),
+        @Index(name = "idx_users_comment_count", columnList = "comment_count, id"),
+        @Index(name = "idx_users_likes_received", columnList = "likes_received, id"),
+        @Index(name = "idx_users_last_active_at", columnList = "last_active_at, id")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -39,6 +45,27 @@ public class User implements UserDetails {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // --- 활동 지표 (관리자 사용자 목록용) ---
+    // 보관된 게시글/댓글도 포함합니다. 글/댓글/좋아요 처리 시 벌크 UPDATE 로만 증감되고,
+    // 대량 삭제처럼 건별로 따라가기 어려운 경로는 UserActivityReconcileJob 이 주기적으로 실제 값에 맞춥니다.
+    // (updatable = false: 사용자 엔티티를 저장할 때 읽어 둔 옛 값으로 덮어쓰지 않도록)
+
+    // 삭제되지 않은 게시글 수
+    @Column(nullable = false, updatable = false)
+    private Integer postCount = 0;
+
+    // 답글을 포함한 댓글 수
+    @Column(nullable = false, updatable = false)
+    private Integer commentCount = 0;
+
+    // 작성한 게시글과 댓글이 받은 좋아요 수
+    @Column(nullable = false, updatable = false)
+    private Integer likesReceived = 0;
+
+    // 마지막으로 글/댓글을 쓰거나 수정하거나 좋아요를 누른 시각 (활동이 없으면 null)
+    @Column(updatable = false)
+    private LocalDateTime lastActiveAt;
+
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
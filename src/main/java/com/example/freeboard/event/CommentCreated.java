@@ -0,0 +1,4 @@
+package com.example.freeboard.event;
+
+public record CommentCreated(PostSnapshot post, Long commentId, Long authorId) implements DomainEvent {
+}
@@ -0,0 +1,5 @@
+package com.example.freeboard.event;
+
+// count 는 함께 삭제된 답글을 포함한 댓글 수입니다.
+public record CommentDeleted(Long postId, Long commentId, long count) implements DomainEvent {
+}
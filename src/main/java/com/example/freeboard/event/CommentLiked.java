@@ -0,0 +1,5 @@
+package com.example.freeboard.event;
+
+// liked 가 false 이면 좋아요 취소입니다.
+public record CommentLiked(Long postId, Long commentId, Long likeCount, Long userId, boolean liked) implements DomainEvent {
+}
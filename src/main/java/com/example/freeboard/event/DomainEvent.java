@@ -0,0 +1,8 @@
+package com.example.freeboard.event;
+
+/**
+ * 트랜잭션 커밋 후 {@link DomainEventBus} 로 발행되는 도메인 이벤트의 공통 타입입니다.
+ * 이벤트는 불변(record)이며, 소비자 스레드에서 지연 로딩이 일어나지 않도록 필요한 값을 모두 담고 있습니다.
+ */
+public interface DomainEvent {
+}
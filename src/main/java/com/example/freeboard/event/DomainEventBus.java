@@ -0,0 +1,187 @@
+package com.example.freeboard.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 서비스 계층의 부수 효과(실시간 카운터, 인기 랭킹 등)를 요청 트랜잭션 밖으로 떼어내는 프로세스 내 이벤트 버스입니다.
+ *
+ * 서비스는 {@link #publish(DomainEvent)} 만 호출하고, 이벤트는 트랜잭션이 커밋된 뒤 링 버퍼에 들어갑니다.
+ * 등록된 {@link DomainEventHandler} 마다 전용 소비자 스레드가 버퍼를 배치 단위로 읽어 처리하므로,
+ * 요청 지연 시간에는 링 버퍼에 한 번 쓰는 비용만 포함됩니다.
+ *
+ * 버퍼가 가득 차면 생산자는 app.events.publish-timeout-ms 동안만 기다리고, 그래도 자리가 없으면 이벤트를 버리고
+ * freeboard.events.dropped 지표를 올립니다. (데이터 자체는 이미 커밋되었으므로 잃는 것은 부수 효과뿐입니다.)
+ */
+@Component
+public class DomainEventBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private final DomainEventRingBuffer ringBuffer;
+    private final List<BatchEventProcessor> processors = new ArrayList<>();
+    private final long publishTimeoutNanos;
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+
+    public DomainEventBus(List<DomainEventHandler> handlers,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.events.buffer-size:4096}") int bufferSize,
+                          @Value("${app.events.wait-strategy:BLOCKING}") WaitStrategy waitStrategy,
+                          @Value("${app.events.publish-timeout-ms:50}") long publishTimeoutMs) {
+        this.ringBuffer = new DomainEventRingBuffer(bufferSize, waitStrategy);
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+
+        this.publishedCounter = meterRegistry.counter("freeboard.events.published");
+        this.droppedCounter = meterRegistry.counter("freeboard.events.dropped");
+        Gauge.builder("freeboard.events.buffer.remaining", ringBuffer, DomainEventRingBuffer::remainingCapacity)
+                .description("가장 느린 소비자 기준 링 버퍼 여유 슬롯 수")
+                .register(meterRegistry);
+
+        for (DomainEventHandler handler : handlers) {
+            BatchEventProcessor processor = new BatchEventProcessor(handler, ringBuffer.addGatingSequence(),
+                    DistributionSummary.builder("freeboard.events.batch.size")
+                            .tag("consumer", handler.name())
+                            .register(meterRegistry));
+            Gauge.builder("freeboard.events.lag", processor, p -> ringBuffer.getCursor() - p.sequence.get())
+                    .tag("consumer", handler.name())
+                    .description("발행되었지만 아직 처리되지 않은 이벤트 수")
+                    .register(meterRegistry);
+            processors.add(processor);
+        }
+        logger.info("도메인 이벤트 버스: 버퍼 {}개, 대기 전략 {}, 소비자 {}", bufferSize, waitStrategy, handlers.size());
+    }
+
+    /**
+     * 이벤트를 발행합니다. 트랜잭션 안이면 커밋된 뒤에만, 밖이면 즉시 링 버퍼에 넣습니다.
+     * 롤백된 트랜잭션의 이벤트는 발행되지 않습니다.
+     */
+    public void publish(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(DomainEvent event) {
+        if (ringBuffer.tryPublish(event)) {
+            publishedCounter.increment();
+            return;
+        }
+        // 버퍼가 가득 찬 경우: 정해진 시간 동안만 잠깐씩 쉬며 재시도 (backpressure)
+        long deadline = System.nanoTime() + publishTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(50_000L);
+            if (ringBuffer.tryPublish(event)) {
+                publishedCounter.increment();
+                return;
+            }
+        }
+        droppedCounter.increment();
+        logger.warn("이벤트 버퍼가 가득 차 이벤트를 버렸습니다: {}", event.getClass().getSimpleName());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (BatchEventProcessor processor : processors) {
+            Thread thread = new Thread(processor, "domain-event-" + processor.handler.name());
+            thread.setDaemon(true);
+            processor.thread = thread;
+            thread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ringBuffer.signalConsumers();
+        for (BatchEventProcessor processor : processors) {
+            try {
+                processor.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 다른 빈보다 늦게 멈춰, 종료 직전에 발행된 이벤트까지 처리할 수 있게 합니다.
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    /**
+     * 핸들러 하나를 전담하는 소비자입니다. 발행된 시퀀스를 한 번에 모두 읽어 배치로 처리한 뒤 자신의 시퀀스를 전진시킵니다.
+     */
+    private final class BatchEventProcessor implements Runnable {
+        private final DomainEventHandler handler;
+        private final AtomicLong sequence;
+        private final DistributionSummary batchSize;
+        private Thread thread;
+
+        private BatchEventProcessor(DomainEventHandler handler, AtomicLong sequence, DistributionSummary batchSize) {
+            this.handler = handler;
+            this.sequence = sequence;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            long nextSequence = sequence.get() + 1;
+            // 종료 요청 후에도 이미 발행된 이벤트는 모두 처리하고 끝냅니다.
+            while (running || ringBuffer.getCursor() >= nextSequence) {
+                long availableSequence;
+                try {
+                    availableSequence = ringBuffer.waitFor(nextSequence, () -> running);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (availableSequence < nextSequence) {
+                    continue;
+                }
+                for (long current = nextSequence; current <= availableSequence; current++) {
+                    try {
+                        handler.onEvent(ringBuffer.get(current), current, current == availableSequence);
+                    } catch (Exception e) {
+                        logger.error("이벤트 처리 중 오류 ({}): seq={}", handler.name(), current, e);
+                    }
+                }
+                batchSize.record(availableSequence - nextSequence + 1);
+                sequence.set(availableSequence);
+                nextSequence = availableSequence + 1;
+            }
+        }
+    }
+}
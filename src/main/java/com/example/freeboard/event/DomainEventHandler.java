@@ -0,0 +1,18 @@
+package com.example.freeboard.event;
+
+/**
+ * 링 버퍼를 소비하는 핸들러입니다. 핸들러마다 전용 소비자 스레드가 하나씩 붙어 배치 단위로 이벤트를 처리합니다.
+ * 같은 핸들러의 onEvent 는 항상 같은 스레드에서 발행 순서대로 호출됩니다.
+ */
+public interface DomainEventHandler {
+
+    /**
+     * @param event      처리할 이벤트
+     * @param sequence   링 버퍼 시퀀스 번호
+     * @param endOfBatch 현재 배치의 마지막 이벤트이면 true (모아 둔 작업을 한꺼번에 반영하기 좋은 시점)
+     */
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch);
+
+    // 소비자 스레드 이름과 지표 태그에 쓰입니다.
+    String name();
+}
@@ -0,0 +1,131 @@
+package com.example.freeboard.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기가 고정된(2의 거듭제곱) 다중 생산자 링 버퍼입니다.
+ *
+ * 슬롯 배열은 생성 시 한 번만 할당하고 계속 재사용합니다. 생산자는 CAS 로 시퀀스를 claim 한 뒤 슬롯에 이벤트를 쓰고,
+ * 슬롯별 발행 표시(해당 시퀀스가 몇 번째 바퀴인지)를 기록합니다. 소비자는 각자 자신의 시퀀스를 가지며,
+ * 가장 느린 소비자보다 한 바퀴 이상 앞서서는 claim 할 수 없으므로 아직 읽지 않은 슬롯이 덮어써지지 않습니다.
+ */
+public class DomainEventRingBuffer {
+
+    /**
+     * 소비자 대기 루프가 종료 여부를 확인할 때 사용합니다.
+     */
+    @FunctionalInterface
+    public interface Running {
+        boolean isRunning();
+    }
+
+    private final int bufferSize;
+    private final int indexMask;
+    private final int indexShift;
+    private final DomainEvent[] slots;
+    // 슬롯별로 마지막으로 발행된 시퀀스의 바퀴 수 (sequence >>> indexShift)
+    private final AtomicIntegerArray availableRounds;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<AtomicLong> gatingSequences = new CopyOnWriteArrayList<>();
+    private final WaitStrategy waitStrategy;
+
+    public DomainEventRingBuffer(int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.indexMask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.slots = new DomainEvent[bufferSize];
+        this.availableRounds = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            availableRounds.set(i, -1);
+        }
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 소비자 시퀀스를 등록합니다. 생산자는 등록된 시퀀스 중 가장 작은 값을 넘어 한 바퀴 이상 앞서지 않습니다.
+     */
+    public AtomicLong addGatingSequence() {
+        AtomicLong sequence = new AtomicLong(cursor.get());
+        gatingSequences.add(sequence);
+        return sequence;
+    }
+
+    /**
+     * 빈 슬롯이 있으면 이벤트를 발행하고 true 를, 버퍼가 가득 찼으면 즉시 false 를 반환합니다.
+     */
+    public boolean tryPublish(DomainEvent event) {
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            next = current + 1;
+            if (next - bufferSize > minimumGatingSequence(current)) {
+                return false;
+            }
+        } while (!cursor.compareAndSet(current, next));
+
+        int index = (int) (next & indexMask);
+        slots[index] = event;
+        // volatile 쓰기이므로 위의 슬롯 쓰기가 소비자에게 먼저 보이게 됩니다.
+        availableRounds.set(index, (int) (next >>> indexShift));
+        waitStrategy.signalAllWhenBlocking();
+        return true;
+    }
+
+    /**
+     * sequence 이상이 claim 될 때까지 기다린 뒤, 실제로 연속해서 발행이 끝난 가장 큰 시퀀스를 반환합니다.
+     */
+    long waitFor(long sequence, Running running) throws InterruptedException {
+        long claimed = waitStrategy.waitFor(sequence, cursor, running);
+        if (claimed < sequence) {
+            return claimed;
+        }
+        return highestPublished(sequence, claimed);
+    }
+
+    DomainEvent get(long sequence) {
+        return slots[(int) (sequence & indexMask)];
+    }
+
+    void signalConsumers() {
+        waitStrategy.signalAllWhenBlocking();
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    // 가장 느린 소비자 기준으로 아직 비어 있는 슬롯 수
+    public long remainingCapacity() {
+        long current = cursor.get();
+        return bufferSize - (current - minimumGatingSequence(current));
+    }
+
+    private long highestPublished(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            int index = (int) (sequence & indexMask);
+            if (availableRounds.get(index) != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    private long minimumGatingSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
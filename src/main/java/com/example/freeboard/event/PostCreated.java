@@ -0,0 +1,4 @@
+package com.example.freeboard.event;
+
+public record PostCreated(PostSnapshot post) implements DomainEvent {
+}
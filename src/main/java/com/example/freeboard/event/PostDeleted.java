@@ -0,0 +1,6 @@
+package com.example.freeboard.event;
+
+// 소프트 삭제와 영구 삭제 모두 발행됩니다. (hard 가 true 이면 영구 삭제)
+// authorUsername 은 보관된 게시글을 영구 삭제할 때는 null 입니다.
+public record PostDeleted(Long postId, String authorUsername, boolean hard) implements DomainEvent {
+}
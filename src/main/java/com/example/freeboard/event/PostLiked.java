@@ -0,0 +1,5 @@
+package com.example.freeboard.event;
+
+// liked 가 false 이면 좋아요 취소입니다.
+public record PostLiked(PostSnapshot post, Long userId, boolean liked) implements DomainEvent {
+}
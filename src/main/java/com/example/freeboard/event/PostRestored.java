@@ -0,0 +1,5 @@
+package com.example.freeboard.event;
+
+// 소프트 삭제 복구와 보관 테이블에서의 복원 모두 발행됩니다.
+public record PostRestored(Long postId) implements DomainEvent {
+}
@@ -0,0 +1,23 @@
+package com.example.freeboard.event;
+
+import com.example.freeboard.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트에 실어 보내는 게시글 요약입니다. 트랜잭션 안에서 만들어 두므로 소비자는 엔티티에 접근하지 않습니다.
+ */
+public record PostSnapshot(Long postId, String title, String authorUsername, LocalDateTime createdAt,
+                           Integer viewCount, Long likeCount, Long commentCount) {
+
+    public static PostSnapshot of(Post post) {
+        return new PostSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getAuthor().getUsername(),
+                post.getCreatedAt(),
+                post.getViewCount(),
+                post.getLikeCount() != null ? post.getLikeCount().longValue() : 0L,
+                post.getCommentCount() != null ? post.getCommentCount().longValue() : 0L);
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.freeboard.event;
+
+public record UserRegistered(Long userId, String username) implements DomainEvent {
+}
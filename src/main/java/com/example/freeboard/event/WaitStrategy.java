@@ -0,0 +1,102 @@
+package com.example.freeboard.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 소비자가 다음 시퀀스가 발행되기를 기다리는 방법입니다. (app.events.wait-strategy)
+ * 지연 시간과 CPU 사용량 사이의 균형을 설정으로 고를 수 있습니다.
+ */
+public enum WaitStrategy {
+
+    // 락/조건 변수로 잠듭니다. CPU 를 거의 쓰지 않지만 깨어나는 데 시간이 조금 걸립니다. (기본값)
+    BLOCKING {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+
+        @Override
+        long waitFor(long sequence, AtomicLong cursor, DomainEventRingBuffer.Running running) throws InterruptedException {
+            long available;
+            while ((available = cursor.get()) < sequence && running.isRunning()) {
+                lock.lock();
+                try {
+                    if (cursor.get() < sequence) {
+                        published.await(BLOCKING_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return available;
+        }
+
+        @Override
+        void signalAllWhenBlocking() {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    },
+
+    // 잠깐 스핀한 뒤 yield, 그 다음에는 짧게 park 합니다. 지연과 CPU 사용의 절충안입니다.
+    SLEEPING {
+        @Override
+        long waitFor(long sequence, AtomicLong cursor, DomainEventRingBuffer.Running running) {
+            int counter = 200;
+            long available;
+            while ((available = cursor.get()) < sequence && running.isRunning()) {
+                if (counter > 100) {
+                    counter--;
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(100_000L);
+                }
+            }
+            return available;
+        }
+    },
+
+    // 계속 yield 합니다. 코어를 하나 거의 점유하지만 지연이 짧습니다.
+    YIELDING {
+        @Override
+        long waitFor(long sequence, AtomicLong cursor, DomainEventRingBuffer.Running running) {
+            long available;
+            while ((available = cursor.get()) < sequence && running.isRunning()) {
+                Thread.yield();
+            }
+            return available;
+        }
+    },
+
+    // 바쁜 대기(spin)입니다. 전용 코어가 있을 때만 사용하세요.
+    BUSY_SPIN {
+        @Override
+        long waitFor(long sequence, AtomicLong cursor, DomainEventRingBuffer.Running running) {
+            long available;
+            while ((available = cursor.get()) < sequence && running.isRunning()) {
+                Thread.onSpinWait();
+            }
+            return available;
+        }
+    };
+
+    private static final long BLOCKING_TIMEOUT_MS = 100;
+
+    /**
+     * sequence 이상이 claim 될 때까지 기다린 뒤, 현재 claim 된 가장 큰 시퀀스를 반환합니다.
+     * 종료 중이면 sequence 보다 작은 값을 반환할 수 있습니다.
+     */
+    abstract long waitFor(long sequence, AtomicLong cursor, DomainEventRingBuffer.Running running) throws InterruptedException;
+
+    // 생산자가 발행 직후 호출합니다. 잠들어 있는 소비자를 깨우는 전략만 구현합니다.
+    void signalAllWhenBlocking() {
+    }
+}
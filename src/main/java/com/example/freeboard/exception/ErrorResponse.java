@@ -17,6 +17,7 @@ public class ErrorResponse {
     private String message;
     private String path;
     private Map<String, String> errors;
+    private Long currentVersion; // 수정 충돌(409) 시 현재 버전
 
     public ErrorResponse(LocalDateTime timestamp, int status, String message, String path) {
         this.timestamp = timestamp;
@@ -0,0 +1,21 @@
+package com.example.freeboard.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 클라이언트가 보낸 버전이 현재 버전과 달라 재시도로 해결할 수 없는 수정 충돌 (다른 사용자가 먼저 수정함).
+ * 응답에 현재 버전을 담아 클라이언트가 최신 내용을 다시 읽고 판단하게 합니다.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT) // HTTP 409 응답으로 설정
+public class VersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public VersionConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
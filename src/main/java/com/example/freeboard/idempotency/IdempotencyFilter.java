@@ -0,0 +1,270 @@
+package com.example.freeboard.idempotency;
+
+import com.example.freeboard.entity.User;
+import com.example.freeboard.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글/댓글 작성 요청의 Idempotency-Key 헤더를 처리하는 필터입니다.
+ *
+ * 모바일 클라이언트가 타임아웃 뒤 같은 키로 재시도하면 작성을 다시 실행하지 않고 처음 성공 응답(상태 코드, Content-Type, 본문 바이트)을
+ * 그대로 돌려주며 Idempotent-Replayed 헤더를 붙입니다. 처음 요청이 아직 처리 중이면 중복 요청은 실행하지 않고 그 결과를 기다립니다.
+ * 키는 (사용자, 키) 단위이고, 같은 키로 다른 경로/본문을 보내면 422 로 거절합니다.
+ * 2xx 응답만 저장하므로 검증 실패나 서버 오류, 한도 초과(429) 뒤에는 같은 키로 다시 실행할 수 있습니다.
+ * JwtAuthenticationFilter 와 RateLimitFilter 사이에서 실행되어 재생된 응답은 요청 한도를 쓰지 않습니다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final List<String> ROUTES = List.of("/api/posts", "/api/posts/*/comments");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long waitTimeoutNanos;
+    private final int maxResponseBytes;
+    private final Counter replayedCounter;
+    private final Counter waitedCounter;
+    private final Counter mismatchCounter;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.idempotency.enabled:true}") boolean enabled,
+                             @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                             @Value("${app.idempotency.max-response-bytes:262144}") int maxResponseBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        this.maxResponseBytes = maxResponseBytes;
+        this.replayedCounter = Counter.builder("freeboard.idempotency.replayed")
+                .description("저장된 응답을 재생한 중복 요청 수")
+                .register(meterRegistry);
+        this.waitedCounter = Counter.builder("freeboard.idempotency.waited")
+                .description("처리 중인 같은 키의 요청을 기다린 중복 요청 수")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("freeboard.idempotency.mismatch")
+                .description("같은 키로 다른 요청을 보내 거절된 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return ROUTES.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 인증되지 않은 요청은 뒤의 인가 단계에서 거절되므로 그대로 넘깁니다.
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH
+                || !idempotencyKey.chars().allMatch(c -> c > 0x20 && c < 0x7F)) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " 헤더는 1~" + MAX_KEY_LENGTH + "자의 출력 가능한 ASCII 문자여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, StreamUtils.copyToByteArray(request.getInputStream()));
+        byte[] fingerprint = fingerprint(cachedRequest);
+        String storeKey = user.getId() + ":" + idempotencyKey;
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+
+        while (true) {
+            IdempotencyStore.Entry entry = new IdempotencyStore.Entry(fingerprint);
+            IdempotencyStore.Entry existing = store.putIfAbsent(storeKey, entry);
+            if (existing == null) {
+                execute(cachedRequest, response, filterChain, storeKey, entry);
+                return;
+            }
+            if (!existing.matches(fingerprint)) {
+                mismatchCounter.increment();
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "같은 " + IDEMPOTENCY_KEY_HEADER + " 로 다른 요청을 보낼 수 없습니다.");
+                return;
+            }
+
+            IdempotencyStore.CachedResponse cached;
+            try {
+                waitedCounter.increment();
+                cached = existing.await(deadline - System.nanoTime());
+            } catch (TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(request, response, HttpStatus.CONFLICT, "같은 요청을 아직 처리하고 있습니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE, "요청을 처리하지 못했습니다. 다시 시도해 주세요.");
+                return;
+            }
+            if (cached != null) {
+                replay(response, cached);
+                return;
+            }
+            // 처음 요청이 저장할 응답 없이 끝났으면(실패) 이 요청이 다시 실행합니다.
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String storeKey, IdempotencyStore.Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        IdempotencyStore.CachedResponse cached = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            byte[] body = responseWrapper.getContentAsByteArray();
+            if (status >= 200 && status < 300 && body.length <= maxResponseBytes) {
+                cached = new IdempotencyStore.CachedResponse(status, responseWrapper.getContentType(), body);
+            }
+        } finally {
+            store.complete(storeKey, entry, cached);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.CachedResponse cached) throws IOException {
+        replayedCounter.increment();
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    // 같은 키의 재시도가 같은 요청인지 확인하기 위한 (메서드, 경로, 본문) 해시
+    private static byte[] fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(request.body);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse body = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                message,
+                "uri=" + request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    /**
+     * 지문 계산을 위해 미리 읽은 본문을 컨트롤러가 다시 읽을 수 있게 해 주는 요청 래퍼입니다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 읽을 데이터와 끝을 바로 알립니다.
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.freeboard.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * (사용자, Idempotency-Key) 별로 처리 중인 요청과 완료된 응답을 메모리에 보관합니다.
+ *
+ * 항목은 처리 중일 때 CompletableFuture 로 같은 키의 중복 요청을 기다리게 하고, 성공 응답이 저장되면 ttl 동안 재생에 쓰입니다.
+ * TTL 이 모두 같으므로 삽입 순서가 곧 만료 순서입니다. 항목 수가 max-entries 를 넘으면 가장 오래된 완료 항목부터 버리고,
+ * 만료된 항목은 주기적으로 정리합니다. (인스턴스별 저장소이므로 여러 인스턴스 사이에서는 공유되지 않습니다.)
+ */
+@Component
+public class IdempotencyStore {
+
+    // 용량을 넘었을 때 한 번의 등록에서 넘친 수 외에 더 살펴볼 순서 노드 수 (앞쪽의 처리 중/지워진 노드를 건너뛰기 위함)
+    private static final int TRIM_SLACK = 32;
+
+    /**
+     * 재생할 응답. 본문은 처음 응답과 같은 바이트 그대로입니다.
+     */
+    public record CachedResponse(int status, String contentType, byte[] body) {
+    }
+
+    public static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        private volatile long expiresAtNanos = Long.MAX_VALUE;
+        // 등록된 키 (putIfAbsent 에서 설정)
+        private volatile String key;
+
+        public Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        // 같은 키로 다른 요청(경로/본문)을 보냈는지 확인
+        public boolean matches(byte[] otherFingerprint) {
+            return MessageDigest.isEqual(fingerprint, otherFingerprint);
+        }
+
+        /**
+         * 처리가 끝날 때까지 기다립니다. 저장할 응답 없이 끝났으면(실패 등) null 을 반환합니다.
+         */
+        public CachedResponse await(long timeoutNanos) throws TimeoutException, InterruptedException {
+            try {
+                return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+
+        private boolean isCompleted() {
+            return result.isDone();
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 삽입 순서 (가장 오래된 항목부터 버리기 위함). 키가 아니라 항목 자체를 넣어, 같은 키로 다시 등록된 항목과 구분합니다.
+    // 실패/만료로 지운 항목의 노드는 바로 빼지 않고(O(n)), 용량 정리나 주기 정리에서 만났을 때 버립니다.
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // insertionOrder 의 노드 수 (ConcurrentLinkedQueue.size() 는 O(n) 이므로 따로 셈)
+    private final AtomicInteger queuedNodes = new AtomicInteger();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public IdempotencyStore(MeterRegistry meterRegistry,
+                            @Value("${app.idempotency.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+        Gauge.builder("freeboard.idempotency.entries", entries, ConcurrentHashMap::size)
+                .description("메모리에 유지 중인 Idempotency-Key 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키가 비어 있으면 새 항목을 처리 중으로 등록하고 null 을, 이미 있으면 기존 항목을 반환합니다.
+     */
+    public Entry putIfAbsent(String key, Entry fresh) {
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.expiresAtNanos - System.nanoTime() < 0) {
+                remove(existing);
+                continue;
+            }
+            if (existing != null) {
+                return existing;
+            }
+            fresh.key = key;
+            if (entries.putIfAbsent(key, fresh) == null) {
+                insertionOrder.add(fresh);
+                queuedNodes.incrementAndGet();
+                if (entries.size() > maxEntries) {
+                    trimToCapacity();
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 처리를 끝냅니다. 응답이 있으면 ttl 동안 재생하고, 없으면 항목을 지워 같은 키로 다시 실행할 수 있게 합니다.
+     * 어느 쪽이든 기다리던 중복 요청들을 깨웁니다.
+     */
+    public void complete(String key, Entry entry, CachedResponse response) {
+        if (response != null) {
+            entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+        } else {
+            remove(entry);
+        }
+        entry.result.complete(response);
+    }
+
+    // 항목만 지웁니다. (같은 키로 새로 등록된 항목은 건드리지 않음) 순서 노드는 나중에 정리됩니다.
+    private void remove(Entry entry) {
+        entries.remove(entry.key, entry);
+    }
+
+    // 처리 중인 항목은 버리지 않습니다. (기다리는 요청이 중복 실행되지 않도록)
+    // 한 번에 살펴보는 노드 수는 넘친 수 + TRIM_SLACK 으로 제한하고, 못 줄인 만큼은 다음 등록에서 이어서 줄입니다.
+    private void trimToCapacity() {
+        int attempts = Math.min(queuedNodes.get(), entries.size() - maxEntries + TRIM_SLACK);
+        while (entries.size() > maxEntries && attempts-- > 0) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (entries.get(oldest.key) != oldest) {
+                // 이미 지워진 항목의 노드
+                queuedNodes.decrementAndGet();
+            } else if (!oldest.isCompleted()) {
+                insertionOrder.add(oldest);
+            } else {
+                entries.remove(oldest.key, oldest);
+                queuedNodes.decrementAndGet();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        insertionOrder.removeIf(entry -> {
+            boolean drop;
+            if (entry.isCompleted() && entry.expiresAtNanos - now < 0) {
+                entries.remove(entry.key, entry);
+                drop = true;
+            } else {
+                drop = entries.get(entry.key) != entry;
+            }
+            if (drop) {
+                queuedNodes.decrementAndGet();
+            }
+            return drop;
+        });
+    }
+}
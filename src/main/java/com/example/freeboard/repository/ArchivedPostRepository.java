@@ -0,0 +1,127 @@
+// src/main/java/com/example/freeboard/repository/ArchivedPostRepository.java
+package com.example.freeboard.repository;
+
+import com.example.freeboard.entity.ArchivedPost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 테이블 조회와, 활성 테이블 <-> 보관 테이블 간 행 이동(INSERT ... SELECT / DELETE)을 담당합니다.
+ * 엔티티를 하나씩 읽지 않고 청크 단위 ID 목록으로 한 번에 옮기므로 네이티브 쿼리를 사용합니다.
+ * (컬럼이 추가되면 아래 컬럼 목록도 함께 맞춰야 합니다.)
+ */
+@Repository
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    @Query("SELECT a FROM ArchivedPost a JOIN FETCH a.author WHERE a.id = :id")
+    Optional<ArchivedPost> findByIdWithAuthor(@Param("id") Long id);
+
+    // --- 관리자 통계 초기화 (활성 테이블 값과 합산) ---
+    @Query("SELECT COUNT(a) FROM ArchivedPost a WHERE a.deleted = false")
+    long countVisible();
+
+    @Query("SELECT u.username, COUNT(a) FROM ArchivedPost a JOIN a.author u WHERE a.deleted = false GROUP BY u.username")
+    List<Object[]> countVisibleByAuthor();
+
+    @Query("SELECT COUNT(c) FROM ArchivedComment c")
+    long countComments();
+
+    @Query("SELECT COUNT(l) FROM ArchivedPostLike l")
+    long countPostLikes();
+
+    // --- 보관 대상 선정 ---
+    // 소프트 삭제된 게시글. includeAged 이면 마지막 수정(없으면 작성) 시각이 cutoff 이전인 살아 있는 게시글도 포함합니다.
+    @Query(value = "SELECT p.id FROM post p WHERE p.deleted = true " +
+            "OR (:includeAged = true AND COALESCE(p.updated_at, p.created_at) < :cutoff) " +
+            "ORDER BY p.id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchiveCandidateIds(@Param("includeAged") boolean includeAged,
+                                       @Param("cutoff") LocalDateTime cutoff,
+                                       @Param("limit") int limit);
+
+    // 옮기는 동안 새 댓글/좋아요가 끼어들지 않도록 게시글 행을 잠급니다. (자식 INSERT 는 부모 행의 공유 잠금을 기다림)
+    // 후보 선정 이후 복원/수정된 게시글은 조건을 다시 확인해 제외합니다.
+    @Query(value = "SELECT p.id FROM post p WHERE p.id IN :ids " +
+            "AND (p.deleted = true OR (:includeAged = true AND COALESCE(p.updated_at, p.created_at) < :cutoff)) FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockArchiveCandidates(@Param("ids") Collection<Long> ids,
+                                     @Param("includeAged") boolean includeAged,
+                                     @Param("cutoff") LocalDateTime cutoff);
+
+    // --- 활성 -> 보관 ---
+    @Modifying
+    @Query(value = "INSERT INTO archived_posts (id, title, content, excerpt, user_id, created_at, updated_at, version, view_count, like_count, comment_count, deleted, archived_at) " +
+            "SELECT id, title, content, excerpt, user_id, created_at, updated_at, version, view_count, like_count, comment_count, deleted, NOW() " +
+            "FROM post WHERE id IN :ids", nativeQuery = true)
+    int copyPostsToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_comments (id, post_id, user_id, content, created_at, updated_at, version, like_count, parent_id, path, depth, reply_count) " +
+            "SELECT id, post_id, user_id, content, created_at, updated_at, version, like_count, parent_id, path, depth, reply_count " +
+            "FROM comment WHERE post_id IN :ids", nativeQuery = true)
+    int copyCommentsToArchive(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_post_likes (id, post_id, user_id, created_at) " +
+            "SELECT id, post_id, user_id, created_at FROM post_likes WHERE post_id IN :ids", nativeQuery = true)
+    int copyPostLikesToArchive(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_comment_likes (id, comment_id, user_id) " +
+            "SELECT cl.id, cl.comment_id, cl.user_id FROM comment_likes cl JOIN comment c ON c.id = cl.comment_id " +
+            "WHERE c.post_id IN :ids", nativeQuery = true)
+    int copyCommentLikesToArchive(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE cl FROM comment_likes cl JOIN comment c ON c.id = cl.comment_id WHERE c.post_id IN :ids", nativeQuery = true)
+    int deleteLiveCommentLikes(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment WHERE post_id IN :ids", nativeQuery = true)
+    int deleteLiveComments(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id IN :ids", nativeQuery = true)
+    int deleteLivePostLikes(@Param("ids") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM post WHERE id IN :ids", nativeQuery = true)
+    int deleteLivePosts(@Param("ids") Collection<Long> ids);
+
+    // --- 보관 -> 활성 (복원) ---
+    // 복원된 게시글은 소프트 삭제가 풀리고, 곧바로 다시 보관되지 않도록 updated_at 을 현재 시각으로 둡니다.
+    @Modifying
+    @Query(value = "INSERT INTO post (id, title, content, excerpt, user_id, created_at, updated_at, version, view_count, like_count, comment_count, deleted) " +
+            "SELECT id, title, content, excerpt, user_id, created_at, NOW(), version, view_count, like_count, comment_count, false " +
+            "FROM archived_posts WHERE id = :id", nativeQuery = true)
+    int restorePost(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO post_likes (id, post_id, user_id, created_at) " +
+            "SELECT id, post_id, user_id, created_at FROM archived_post_likes WHERE post_id = :id", nativeQuery = true)
+    int restorePostLikes(@Param("id") Long postId);
+
+    @Modifying
+    @Query(value = "INSERT INTO comment (id, post_id, user_id, content, created_at, updated_at, version, like_count, parent_id, path, depth, reply_count) " +
+            "SELECT id, post_id, user_id, content, created_at, updated_at, version, like_count, parent_id, path, depth, reply_count " +
+            "FROM archived_comments WHERE post_id = :id", nativeQuery = true)
+    int restoreComments(@Param("id") Long postId);
+
+    @Modifying
+    @Query(value = "INSERT INTO comment_likes (id, comment_id, user_id) " +
+            "SELECT acl.id, acl.comment_id, acl.user_id FROM archived_comment_likes acl " +
+            "JOIN archived_comments ac ON ac.id = acl.comment_id WHERE ac.post_id = :id", nativeQuery = true)
+    int restoreCommentLikes(@Param("id") Long postId);
+
+    // 보관된 댓글/좋아요는 FK 의 ON DELETE CASCADE 로 함께 삭제됩니다.
+    @Modifying
+    @Query(value = "DELETE FROM archived_posts WHERE id = :id", nativeQuery = true)
+    int deleteArchivedPost(@Param("id") Long id);
+}
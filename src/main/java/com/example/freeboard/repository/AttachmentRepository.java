@@ -0,0 +1,37 @@
+package com.example.freeboard.repository;
+
+import com.example.freeboard.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    // 게시글 상세: (post_id, id) 인덱스로 한 번에 조회
+    List<Attachment> findByPostIdOrderByIdAsc(Long postId);
+
+    // 여러 게시글의 첨부를 IN 조회 한 번으로
+    List<Attachment> findByPostIdInOrderByIdAsc(Collection<Long> postIds);
+
+    long countByPostId(Long postId);
+
+    // 게시글별 첫 번째 첨부 ID (주어진 형식 중에서), 목록의 대표 이미지용: (post_id, 첨부 id)
+    @Query("SELECT a.postId, MIN(a.id) FROM Attachment a WHERE a.postId IN :postIds AND a.contentType IN :contentTypes " +
+            "GROUP BY a.postId")
+    List<Object[]> findFirstAttachmentIds(@Param("postIds") Collection<Long> postIds,
+                                          @Param("contentTypes") Collection<String> contentTypes);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 저장소 정리용: 주어진 해시 중 아직 첨부가 참조하는 것
+    @Query("SELECT DISTINCT a.sha256 FROM Attachment a WHERE a.sha256 IN :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
@@ -6,9 +6,13 @@ import com.example.freeboard.entity.CommentLike;
 import com.example.freeboard.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +23,10 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // === 특정 댓글과 특정 사용자의 좋아요 여부 확인 ===
     boolean existsByCommentAndUser(Comment comment, User user);
 
+    // === 여러 댓글 중 특정 사용자가 좋아요를 누른 댓글 ID 목록 (댓글마다 exists 를 호출하지 않도록 한 번에 조회) ===
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user = :user AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("user") User user, @Param("commentIds") Collection<Long> commentIds);
+
     // === 특정 사용자가 누른 모든 좋아요 삭제 ===
     @Transactional
     @Modifying
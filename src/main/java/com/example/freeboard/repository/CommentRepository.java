@@ -3,8 +3,8 @@ package com.example.freeboard.repository;
 
 import com.example.freeboard.entity.Comment;
 import com.example.freeboard.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,22 +12,117 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPostId(Long postId);
 
-    Long countByPostId(Long postId);
+    // 게시글의 전체 스레드: (post_id, path) 인덱스 범위 하나로 부모 -> 자식 순서대로 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.path")
+    List<Comment> findThreadByPostId(@Param("postId") Long postId);
 
-    // 관리자 기능
-    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post",
-            countQuery = "SELECT COUNT(c) FROM Comment c")
-    Page<Comment> findAllForAdmin(Pageable pageable);
+    // 특정 댓글의 서브트리 (자기 자신 포함): path 접두사 범위 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%') ORDER BY c.path")
+    List<Comment> findSubtree(@Param("postId") Long postId, @Param("path") String path);
 
-    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post WHERE LOWER(c.content) LIKE LOWER(CONCAT('%', :search, '%'))",
-            countQuery = "SELECT COUNT(c) FROM Comment c WHERE LOWER(c.content) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Comment> findByContentContainingIgnoreCaseForAdmin(@Param("search") String search, Pageable pageable);
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%')")
+    long countSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    // 서브트리의 작성자별 (작성자 ID, 댓글 수, 받은 좋아요 합계): 삭제 전에 작성자 활동 지표를 줄이는 데 사용
+    @Query("SELECT c.author.id, COUNT(c), SUM(c.likeCount) FROM Comment c " +
+            "WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%') GROUP BY c.author.id")
+    List<Object[]> countSubtreeByAuthor(@Param("postId") Long postId, @Param("path") String path);
+
+    // 게시글 전체 댓글의 작성자별 (작성자 ID, 댓글 수, 받은 좋아요 합계): 게시글 영구 삭제 전에 사용
+    @Query("SELECT c.author.id, COUNT(c), SUM(c.likeCount) FROM Comment c WHERE c.post.id = :postId GROUP BY c.author.id")
+    List<Object[]> countByAuthorForPost(@Param("postId") Long postId);
+
+    // 좋아요 수 원자적 증감 (수정 버전은 올리지 않음)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :id")
+    void addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :id")
+    Integer findLikeCount(@Param("id") Long id);
+
+    // 조상 댓글들의 서브트리 답글 수를 한 번에 증감
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id IN :ids")
+    void addReplyCount(@Param("ids") List<Long> ids, @Param("delta") int delta);
+
+    // 서브트리 전체 삭제 (댓글 좋아요는 DB 의 ON DELETE CASCADE 로 함께 삭제됨)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%')")
+    void deleteSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    // --- 최상위 댓글 커서 페이징 (seek) ---
+    // (post_id, depth, created_at, id) / (post_id, depth, like_count, id) 인덱스를 따라 커서 위치부터 읽으므로
+    // 페이지가 뒤로 가도 OFFSET 처럼 앞부분을 건너뛰는 비용이 없습니다. limit 는 Pageable 로 넘깁니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootsOldestFirst(@Param("postId") Long postId, Pageable limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootsOldestFirstAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findRootsNewestFirst(@Param("postId") Long postId, Pageable limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findRootsNewestFirstAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "ORDER BY c.likeCount DESC, c.id DESC")
+    List<Comment> findRootsMostLiked(@Param("postId") Long postId, Pageable limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 " +
+            "AND (c.likeCount < :likeCount OR (c.likeCount = :likeCount AND c.id < :id)) " +
+            "ORDER BY c.likeCount DESC, c.id DESC")
+    List<Comment> findRootsMostLikedAfter(@Param("postId") Long postId, @Param("likeCount") Integer likeCount,
+                                          @Param("id") Long id, Pageable limit);
+
+    // 사용자 탈퇴 시 댓글 수를 다시 계산할 게시글 목록
+    @Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.author = :author")
+    List<Long> findPostIdsByAuthor(@Param("author") User author);
+
+    // --- 관리자 댓글 검색 ---
+    // 전체 개수를 세는 COUNT 쿼리 없이 Slice(size + 1 건 조회)로 다음 페이지 존재 여부만 판단합니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post")
+    Slice<Comment> findAllForAdmin(Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post WHERE c.author.id = :authorId")
+    Slice<Comment> findByAuthorForAdmin(@Param("authorId") Long authorId, Pageable pageable);
+
+    // 트라이그램 색인으로 검색어의 트라이그램을 모두 가진 댓글만 후보로 고른 뒤, 후보에 대해서만 LIKE 로 실제 포함 여부를 확인합니다.
+    // pattern 은 소문자로 바꾸고 '!' 로 이스케이프한 '%검색어%' 입니다. authorId 가 null 이면 작성자 조건을 쓰지 않습니다.
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post " +
+            "WHERE c.id IN (SELECT t.commentId FROM CommentTrigram t WHERE t.trigram IN :trigrams " +
+            "GROUP BY t.commentId HAVING COUNT(t) = :trigramCount) " +
+            "AND LOWER(c.content) LIKE :pattern ESCAPE '!' " +
+            "AND (:authorId IS NULL OR c.author.id = :authorId)")
+    Slice<Comment> searchByTrigramsForAdmin(@Param("trigrams") Collection<Long> trigrams,
+                                            @Param("trigramCount") long trigramCount,
+                                            @Param("pattern") String pattern,
+                                            @Param("authorId") Long authorId,
+                                            Pageable pageable);
+
+    // 트라이그램이 없는 3자 미만 검색어용 (본문 스캔)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post " +
+            "WHERE LOWER(c.content) LIKE :pattern ESCAPE '!' " +
+            "AND (:authorId IS NULL OR c.author.id = :authorId)")
+    Slice<Comment> searchByContentForAdmin(@Param("pattern") String pattern,
+                                           @Param("authorId") Long authorId,
+                                           Pageable pageable);
 
     // === 사용자 삭제 메서드 ===
     @Transactional
@@ -0,0 +1,30 @@
+package com.example.freeboard.repository;
+
+import com.example.freeboard.entity.CommentTrigram;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentTrigramRepository extends JpaRepository<CommentTrigram, CommentTrigram.Key> {
+
+    @Query("SELECT t.trigram FROM CommentTrigram t WHERE t.commentId = :commentId")
+    List<Long> findTrigramsByCommentId(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM CommentTrigram t WHERE t.commentId = :commentId AND t.trigram IN :trigrams")
+    void deleteTrigrams(@Param("commentId") Long commentId, @Param("trigrams") Collection<Long> trigrams);
+
+    // 백필: 색인이 없는 댓글을 id 순서로 청크 단위 조회 (id, content)
+    @Query("SELECT c.id, c.content FROM Comment c WHERE c.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM CommentTrigram t WHERE t.commentId = c.id) ORDER BY c.id")
+    List<Object[]> findContentMissingTrigrams(@Param("afterId") Long afterId, Pageable limit);
+
+    // 보관에서 되돌린 게시글의 댓글 (id, content)
+    @Query("SELECT c.id, c.content FROM Comment c WHERE c.post.id = :postId")
+    List<Object[]> findContentByPostId(@Param("postId") Long postId);
+}
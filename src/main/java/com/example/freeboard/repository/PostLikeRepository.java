@@ -6,9 +6,14 @@ import com.example.freeboard.entity.PostLike;
 import com.example.freeboard.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +24,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     long countByPost(Post post);
 
+    // 주어진 게시글 중 사용자가 좋아요를 누른 게시글 ID (게시글마다 exists 를 따로 조회하지 않도록)
+    @Query("SELECT l.post.id FROM PostLike l WHERE l.user = :user AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("user") User user, @Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT DISTINCT l.post.id FROM PostLike l WHERE l.user = :user")
+    List<Long> findPostIdsByUser(@Param("user") User user);
+
+    // 관리자 통계 초기화용: since 이후 좋아요를 받은 활성 게시글별 건수 (id, 제목, 작성자, 건수)
+    @Query("SELECT p.id, p.title, a.username, COUNT(l) FROM PostLike l JOIN l.post p JOIN p.author a " +
+            "WHERE l.createdAt >= :since AND p.deleted = false GROUP BY p.id, p.title, a.username")
+    List<Object[]> countLikesSince(@Param("since") LocalDateTime since);
+
     // === 사용자 삭제 메서드 ===
     @Transactional
     @Modifying
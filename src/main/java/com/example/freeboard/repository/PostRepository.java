@@ -1,6 +1,7 @@
 // src/main/java/com/example/freeboard/repository/PostRepository.java
 package com.example.freeboard.repository;
 
+import com.example.freeboard.dto.PostListRow;
 import com.example.freeboard.entity.Post;
 import com.example.freeboard.entity.User;
 import org.springframework.data.domain.Page;
@@ -12,6 +13,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,15 +26,102 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
     Page<Post> findAllWithAuthor(Pageable pageable);
 
+    // 게시글 목록 행을 쿼리 결과에서 바로 PostListRow 로 만듭니다. (엔티티를 거치지 않음)
+    // 본문을 제외한 목록 / 검색 (fields 에 content 가 없을 때)
+    @Query(value = "SELECT new com.example.freeboard.dto.PostListRow(p.id, p.title, p.excerpt, a.username, p.createdAt, p.updatedAt, " +
+            "p.viewCount, p.likeCount, p.commentCount) FROM Post p JOIN p.author a WHERE p.deleted = false",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostListRow> findAllSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.example.freeboard.dto.PostListRow(p.id, p.title, p.excerpt, a.username, p.createdAt, p.updatedAt, " +
+            "p.viewCount, p.likeCount, p.commentCount) FROM Post p JOIN p.author a WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))")
+    Page<PostListRow> searchSummaries(@Param("searchKeyword") String searchKeyword, Pageable pageable);
+
+    @Query("SELECT new com.example.freeboard.dto.PostListRow(p.id, p.title, p.excerpt, a.username, p.createdAt, p.updatedAt, " +
+            "p.viewCount, p.likeCount, p.commentCount) FROM Post p JOIN p.author a WHERE p.id IN :ids AND p.deleted = false")
+    List<PostListRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 본문을 포함한 목록 / 검색 (fields 에 content 를 명시했을 때)
+    @Query(value = "SELECT new com.example.freeboard.dto.PostListRow(p.id, p.title, p.content, p.excerpt, a.username, p.createdAt, p.updatedAt, " +
+            "p.viewCount, p.likeCount, p.commentCount) FROM Post p JOIN p.author a WHERE p.deleted = false",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostListRow> findAllListRows(Pageable pageable);
+
+    @Query(value = "SELECT new com.example.freeboard.dto.PostListRow(p.id, p.title, p.content, p.excerpt, a.username, p.createdAt, p.updatedAt, " +
+            "p.viewCount, p.likeCount, p.commentCount) FROM Post p JOIN p.author a WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))")
+    Page<PostListRow> searchListRows(@Param("searchKeyword") String searchKeyword, Pageable pageable);
+
     // 단일 활성 게시글 조회
     @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :id AND p.deleted = false")
     Optional<Post> findByIdWithAuthor(@Param("id") Long id);
 
+    // 여러 활성 게시글을 한 번에 조회 (IN 목록)
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id IN :ids AND p.deleted = false")
+    List<Post> findAllByIdInWithAuthor(@Param("ids") Collection<Long> ids);
+
     // 검색 기능
     @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))",
             countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :searchKeyword, '%')) OR LOWER(p.content) LIKE LOWER(CONCAT('%', :searchKeyword, '%')))")
     Page<Post> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseWithAuthor(@Param("searchKeyword") String searchKeyword, Pageable pageable);
 
+    // 인기 게시글 랭킹 초기화용: 최근 활성 게시글의 누적 카운터 (id, 제목, 작성자, 작성일, 조회수, 좋아요 수, 댓글 수)
+    @Query("SELECT p.id, p.title, a.username, p.createdAt, p.viewCount, p.likeCount, p.commentCount " +
+            "FROM Post p JOIN p.author a WHERE p.deleted = false AND p.createdAt >= :since")
+    List<Object[]> findTrendingSeed(@Param("since") LocalDateTime since);
+
+    // --- 관리자 통계 초기화 (보관 테이블 값과 합산) ---
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    long countVisible();
+
+    @Query("SELECT a.username, COUNT(p) FROM Post p JOIN p.author a WHERE p.deleted = false GROUP BY a.username")
+    List<Object[]> countVisibleByAuthor();
+
+    // since 이후 일별 작성 게시글 수 (보관 테이블 포함, 이후 삭제 여부와 무관): (날짜, 건수)
+    @Query(value = "SELECT DATE(t.created_at), COUNT(*) FROM (" +
+            "SELECT created_at FROM post WHERE created_at >= :since " +
+            "UNION ALL SELECT created_at FROM archived_posts WHERE created_at >= :since) t " +
+            "GROUP BY DATE(t.created_at)", nativeQuery = true)
+    List<Object[]> countCreatedPerDay(@Param("since") LocalDateTime since);
+
+    // 발췌문 백필: excerpt 가 비어 있는 게시글을 id 순서로 청크 단위 조회 (id, content)
+    @Query("SELECT p.id, p.content FROM Post p WHERE p.excerpt IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findContentMissingExcerpt(@Param("afterId") Long afterId, Pageable limit);
+
+    // 발췌문만 갱신 (엔티티를 저장하지 않으므로 updatedAt 이 바뀌지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.excerpt = :excerpt WHERE p.id = :id")
+    void updateExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
+
+    // 댓글 수 카운터 증감 (댓글 작성/삭제 시)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    void addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 댓글이 일괄 삭제된 게시글들의 댓글 수를 실제 값으로 다시 계산
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p) WHERE p.id IN :ids")
+    void recountComments(@Param("ids") Collection<Long> ids);
+
+    // 조회수/좋아요 수 원자적 증감: 엔티티를 읽어 고친 뒤 저장하지 않으므로 동시 요청끼리 덮어쓰지 않고, 수정 버전(version)도 올리지 않습니다.
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
+    void incrementViewCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :id")
+    void addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 증감 직후의 실제 좋아요 수 (스칼라 조회라 영속성 컨텍스트의 옛 값이 아닌 DB 값을 읽음)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Integer findLikeCount(@Param("id") Long id);
+
+    // 좋아요가 일괄 삭제된 게시글들의 좋아요 수를 실제 값으로 다시 계산
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = (SELECT COUNT(l) FROM PostLike l WHERE l.post = p) WHERE p.id IN :ids")
+    void recountLikes(@Param("ids") Collection<Long> ids);
+
     // --- 관리자 기능 ---
     @Query(value = "SELECT p FROM Post p JOIN FETCH p.author", countQuery = "SELECT COUNT(p) FROM Post p")
     Page<Post> findAllForAdmin(Pageable pageable);
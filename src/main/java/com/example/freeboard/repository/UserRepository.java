@@ -1,11 +1,67 @@
 package com.example.freeboard.repository;
 
 import com.example.freeboard.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    // --- 활동 지표 카운터 (엔티티를 저장하지 않고 벌크 UPDATE 로 증감) ---
+
+    // 글/댓글 작성: 카운터 증가와 마지막 활동 시각을 한 문장으로 갱신
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = u.postCount + 1, u.lastActiveAt = :now WHERE u.id = :userId")
+    void recordPostCreated(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = u.commentCount + 1, u.lastActiveAt = :now WHERE u.id = :userId")
+    void recordCommentCreated(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.lastActiveAt = :now WHERE u.id = :userId")
+    void touchLastActive(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = u.postCount + :delta WHERE u.id = :userId")
+    void addPostCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 댓글 삭제 시 작성자별로 댓글 수와 그 댓글들이 받은 좋아요 수를 함께 줄임
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = u.commentCount + :commentDelta, " +
+            "u.likesReceived = u.likesReceived + :likesDelta WHERE u.id = :userId")
+    void addCommentActivity(@Param("userId") Long userId, @Param("commentDelta") int commentDelta,
+                            @Param("likesDelta") int likesDelta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.likesReceived = u.likesReceived + :delta WHERE u.id = :userId")
+    void addLikesReceived(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 재계산 대상 사용자 id 를 순서대로 청크 단위 조회
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    // 활동 지표를 원본 테이블(활성 + 보관)에서 다시 계산. 각 하위 쿼리는 user_id / post_id / comment_id 인덱스를 탑니다.
+    @Modifying
+    @Query(value = "UPDATE users u SET " +
+            "u.post_count = (SELECT COUNT(*) FROM post p WHERE p.user_id = u.id AND p.deleted = false) " +
+            "  + (SELECT COUNT(*) FROM archived_posts ap WHERE ap.user_id = u.id AND ap.deleted = false), " +
+            "u.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.user_id = u.id) " +
+            "  + (SELECT COUNT(*) FROM archived_comments ac WHERE ac.user_id = u.id), " +
+            "u.likes_received = (SELECT COUNT(*) FROM post_likes pl JOIN post p ON p.id = pl.post_id WHERE p.user_id = u.id) " +
+            "  + (SELECT COUNT(*) FROM archived_post_likes apl JOIN archived_posts ap ON ap.id = apl.post_id WHERE ap.user_id = u.id) " +
+            "  + (SELECT COUNT(*) FROM comment_likes cl JOIN comment c ON c.id = cl.comment_id WHERE c.user_id = u.id) " +
+            "  + (SELECT COUNT(*) FROM archived_comment_likes acl JOIN archived_comments ac ON ac.id = acl.comment_id WHERE ac.user_id = u.id) " +
+            "WHERE u.id IN :ids", nativeQuery = true)
+    int recountActivity(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,83 @@
+package com.example.freeboard.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnOptimisticLock} 메서드를 낙관적 잠금 충돌 시 지터가 섞인 지수 백오프로 다시 실행합니다.
+ *
+ * 동시 실행 한도(ConcurrencyLimitAspect, @Order(1)) 안쪽, 트랜잭션 어드바이저(가장 낮은 우선순위) 바깥에서 실행되므로
+ * 재시도마다 트랜잭션이 새로 시작되어 엔티티를 최신 버전으로 다시 읽습니다.
+ * 대기 시간은 0 ~ min(max-delay, base-delay * 2^(시도-1)) 사이의 임의 값(full jitter)이라 충돌한 요청들이 같은 순간에 다시 부딪히지 않습니다.
+ * 횟수를 다 써도 실패하면 마지막 예외를 그대로 던지고, GlobalExceptionHandler 가 409 로 응답합니다.
+ */
+@Aspect
+@Component
+@Order(2)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final int defaultMaxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry,
+                                     @Value("${app.optimistic-retry.max-attempts:4}") int defaultMaxAttempts,
+                                     @Value("${app.optimistic-retry.base-delay-ms:10}") long baseDelayMs,
+                                     @Value("${app.optimistic-retry.max-delay-ms:200}") long maxDelayMs) {
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.retryCounter = Counter.builder("freeboard.optimistic_lock.retries")
+                .description("낙관적 잠금 충돌로 다시 실행한 횟수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("freeboard.optimistic_lock.exhausted")
+                .description("재시도 횟수를 다 써서 409 로 끝난 호출 수")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(retryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retryOnOptimisticLock) throws Throwable {
+        // 바깥 트랜잭션에 참여하는 호출은 여기서 다시 실행해도 같은 (롤백 예정인) 트랜잭션이므로 바깥에 맡깁니다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        int maxAttempts = retryOnOptimisticLock.maxAttempts() > 0 ? retryOnOptimisticLock.maxAttempts() : defaultMaxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    logger.warn("낙관적 잠금 충돌 재시도 한도 초과: {} ({}회)", joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                retryCounter.increment();
+                logger.debug("낙관적 잠금 충돌, 다시 실행합니다: {} ({}회째)", joinPoint.getSignature().toShortString(), attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        if (ceiling > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        }
+    }
+}
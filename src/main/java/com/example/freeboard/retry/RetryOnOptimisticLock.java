@@ -0,0 +1,23 @@
+package com.example.freeboard.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌(OptimisticLockingFailureException)이 나면 메서드 전체를 새 트랜잭션으로 다시 실행합니다.
+ *
+ * 다시 실행해도 같은 결과가 되는(엔티티를 새로 읽어 처음부터 처리하는) @Transactional 서비스 메서드에만 붙입니다.
+ * 이미 바깥 트랜잭션 안에서 호출되면 그 트랜잭션이 실패 상태이므로 재시도하지 않고 예외를 그대로 올립니다.
+ * 처리 방식은 {@link OptimisticLockRetryAspect} 를 참고하세요.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnOptimisticLock {
+
+    // 최대 실행 횟수 (첫 실행 포함). 0 이하이면 app.optimistic-retry.max-attempts 를 사용합니다.
+    int maxAttempts() default 0;
+}
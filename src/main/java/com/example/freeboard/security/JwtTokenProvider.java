@@ -3,6 +3,7 @@ package com.example.freeboard.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +21,9 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // 밀리초 단위 발급 시각. 표준 iat 는 초 단위라, 같은 초 안의 무효화와 재로그인을 구분하는 데 씁니다. (TokenRevocationRegistry)
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     @Value("${app.jwtSecret}")
     private String jwtSecret;
 
@@ -26,33 +31,38 @@ public class JwtTokenProvider {
     private int jwtExpirationInMs;
 
     private SecretKey signingKey;
+    // 서명 키와 파서는 요청마다 만들지 않고 시작 시 한 번만 만들어 재사용합니다. (JwtParser 는 스레드 안전)
+    private JwtParser jwtParser;
 
-    private SecretKey getSigningKey() {
-        if (this.signingKey == null) {
-            byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-            this.signingKey = Keys.hmacShaKeyFor(keyBytes);
-        }
-        return this.signingKey;
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return generateToken(userDetails.getUsername());
+    }
 
+    public String generateToken(String username) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
+        // jti: 로그아웃 시 이 토큰만 무효화하기 위한 ID (TokenRevocationRegistry)
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(username)
+                .setIssuedAt(now)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -60,9 +70,15 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    /**
+     * 서명과 만료를 검증하고 클레임을 반환합니다. 유효하지 않으면 null 을 반환합니다. (요청마다 한 번만 파싱하기 위함)
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
+            return jwtParser.parseClaimsJws(authToken).getBody();
         } catch (SignatureException ex) {
             logger.error("유효하지 않은 JWT 서명입니다.");
         } catch (MalformedJwtException ex) {
@@ -74,6 +90,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             logger.error("JWT 클레임 문자열이 비어있습니다.");
         }
-        return false;
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.example.freeboard.security;
+
+import com.example.freeboard.entity.User;
+import com.example.freeboard.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 API 에 경로별 요청 한도를 적용하는 필터입니다. JwtAuthenticationFilter 바로 뒤에서 실행되므로
+ * 로그인한 요청은 사용자 ID 로, 그 외(회원가입/로그인 등)는 클라이언트 IP 로 버킷을 나눕니다.
+ * 한도를 넘으면 컨트롤러까지 가지 않고 429 와 Retry-After 헤더로 바로 응답합니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Route(String method, String pattern, RateLimitPolicy policy) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Route> routes;
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.register:5/3600}") String register,
+                           @Value("${app.rate-limit.login:10/60}") String login,
+                           @Value("${app.rate-limit.post-create:5/60}") String postCreate,
+                           @Value("${app.rate-limit.comment-create:20/60}") String commentCreate,
+                           @Value("${app.rate-limit.like:60/60}") String like,
+                           @Value("${app.rate-limit.attachment-upload:20/60}") String attachmentUpload) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        RateLimitPolicy registerPolicy = RateLimitPolicy.parse("register", register);
+        RateLimitPolicy loginPolicy = RateLimitPolicy.parse("login", login);
+        RateLimitPolicy postCreatePolicy = RateLimitPolicy.parse("post-create", postCreate);
+        RateLimitPolicy commentCreatePolicy = RateLimitPolicy.parse("comment-create", commentCreate);
+        RateLimitPolicy likePolicy = RateLimitPolicy.parse("like", like);
+        RateLimitPolicy attachmentUploadPolicy = RateLimitPolicy.parse("attachment-upload", attachmentUpload);
+        this.routes = List.of(
+                new Route("POST", "/api/auth/register", registerPolicy),
+                new Route("POST", "/api/auth/login", loginPolicy),
+                new Route("POST", "/api/posts", postCreatePolicy),
+                new Route("POST", "/api/posts/*/comments", commentCreatePolicy),
+                new Route("POST", "/api/posts/*/like", likePolicy),
+                new Route("POST", "/api/posts/*/comments/*/like", likePolicy),
+                new Route("POST", "/api/posts/*/attachments", attachmentUploadPolicy)
+        );
+        for (RateLimitPolicy policy : List.of(registerPolicy, loginPolicy, postCreatePolicy, commentCreatePolicy, likePolicy,
+                attachmentUploadPolicy)) {
+            rejectedCounters.put(policy.name(), Counter.builder("freeboard.ratelimit.rejected")
+                    .tag("policy", policy.name())
+                    .description("요청 한도 초과로 거절된 요청 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(policy, resolveClientKey(request));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejectedCounters.get(policy.name()).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        ErrorResponse body = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.",
+                "uri=" + request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private RateLimitPolicy findPolicy(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : routes) {
+            if (route.method().equals(request.getMethod()) && pathMatcher.match(route.pattern(), path)) {
+                return route.policy();
+            }
+        }
+        return null;
+    }
+
+    // JWT 로 인증된 요청은 사용자 ID, 아니면 클라이언트 IP 를 버킷 키로 사용합니다.
+    // (프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr 가 실제 IP 가 되도록 합니다.)
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.freeboard.security;
+
+import java.time.Duration;
+
+/**
+ * 경로별 요청 한도. period 동안 limit 번까지 허용하며, 한도만큼은 한꺼번에(burst) 보낼 수 있습니다.
+ *
+ * @param name   정책 이름 (지표 태그, 버킷 키 접두사)
+ * @param limit  기간당 허용 요청 수
+ * @param period 기간
+ */
+public record RateLimitPolicy(String name, int limit, Duration period) {
+
+    /**
+     * "요청수/초" 형식(예: "10/60")의 설정 값을 정책으로 바꿉니다.
+     */
+    public static RateLimitPolicy parse(String name, String spec) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("요청 한도 형식이 잘못되었습니다 (요청수/초): " + name + "=" + spec);
+        }
+        int limit = Integer.parseInt(parts[0].trim());
+        long seconds = Long.parseLong(parts[1].trim());
+        if (limit < 1 || seconds < 1) {
+            throw new IllegalArgumentException("요청 한도는 1 이상이어야 합니다: " + name + "=" + spec);
+        }
+        return new RateLimitPolicy(name, limit, Duration.ofSeconds(seconds));
+    }
+
+    // 요청 하나가 버킷에서 차지하는 시간 (토큰 하나가 다시 차는 데 걸리는 시간)
+    long emissionIntervalNanos() {
+        return period.toNanos() / limit;
+    }
+}
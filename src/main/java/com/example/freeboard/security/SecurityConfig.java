@@ -1,5 +1,6 @@
 package com.example.freeboard.security;
 
+import com.example.freeboard.idempotency.IdempotencyFilter;
 import com.example.freeboard.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +12,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity; // @PreAuthorize 어노테이션 활성화를 위해 필요
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,13 +24,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /**
+     * 내용 해시로 버전이 붙는 JS/CSS 등 공개 정적 자원. 사용자별 내용이 없으므로 보안 필터 체인을 아예 거치지 않게 하고,
+     * 서블릿 필터로도 등록되는 JwtAuthenticationFilter 도 이 경로는 건너뜁니다. (HTML 페이지는 보안 헤더를 위해 체인을 거침)
+     */
+    static final String[] STATIC_ASSET_PATHS = {"/css/**", "/js/**", "/img/**", "/favicon.ico"};
+
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
     @Autowired
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter, IdempotencyFilter idempotencyFilter) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
     }
 
     @Bean
@@ -49,6 +62,11 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    @Bean
+    public WebSecurityCustomizer staticAssetsSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(STATIC_ASSET_PATHS);
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -58,21 +76,21 @@ public class SecurityConfig {
                         // 1. HTML 파일 및 정적 리소스 접근 허용
                         .requestMatchers(
                                 "/", // 루트 경로 (index.html)
-                                "/*.html", // 모든 HTML 파일
-                                "/css/**", // CSS 파일
-                                "/js/**", // JavaScript 파일
-                                "/img/**", // 이미지 파일
-                                "/favicon.ico", // 파비콘
+                                "/*.html", // 모든 HTML 파일 (CSS/JS/이미지는 STATIC_ASSET_PATHS 로 체인에서 제외)
                                 "/static/**" // static 디렉토리 내 모든 리소스
                         ).permitAll()
 
                         // 2. 공개 API 접근 허용 (인증 없이 접근 가능)
                         .requestMatchers("/api/auth/**").permitAll() // 회원가입, 로그인 관련 API
+                        .requestMatchers("/ws", "/ws/**").permitAll() // 실시간 카운터 WebSocket (구독 전용)
                         .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/**").permitAll() // 게시글 목록 조회 및 특정 게시글 상세 조회
                         .requestMatchers(HttpMethod.GET, "/api/posts/*/comments").permitAll() // 특정 게시글의 댓글 목록 조회
+                        .requestMatchers(HttpMethod.GET, "/api/attachments/*").permitAll() // 첨부 파일 다운로드
 
                         // 3. 관리자 API는 ROLE_ADMIN만 접근 허용
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 헬스 체크
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 지표 등 운영 정보
 
                         // 4. 로그인(인증)된 사용자만 접근 가능한 API
                         // 게시글 관련
@@ -80,6 +98,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/posts/*/like").authenticated() // 게시글 좋아요 토글
                         .requestMatchers(HttpMethod.PUT, "/api/posts/**").authenticated() // 글 수정
                         .requestMatchers(HttpMethod.DELETE, "/api/posts/**").authenticated() // 글 삭제 (일반 사용자용)
+                        .requestMatchers(HttpMethod.POST, "/api/posts/*/attachments").authenticated() // 첨부 파일 업로드
 
                         // 댓글 관련
                         .requestMatchers(HttpMethod.POST, "/api/posts/*/comments").authenticated() // 댓글 작성
@@ -93,7 +112,11 @@ public class SecurityConfig {
                 // DaoAuthenticationProvider를 사용하여 사용자 인증 처리
                 .authenticationProvider(authenticationProvider())
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 이전에 추가하여 요청 헤더의 JWT 토큰을 검증
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Idempotency-Key 필터는 JWT 필터 뒤(사용자별 키)이면서 요청 한도 필터 앞에 두어 재생된 응답이 한도를 쓰지 않게 합니다.
+                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class)
+                // 요청 한도 필터는 JWT 필터 뒤에 두어 인증된 사용자 ID 로 버킷을 나눌 수 있게 합니다.
+                .addFilterAfter(rateLimitFilter, IdempotencyFilter.class);
 
         return http.build();
     }
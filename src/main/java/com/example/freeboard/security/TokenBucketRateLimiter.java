@@ -0,0 +1,67 @@
+package com.example.freeboard.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(사용자/IP)와 정책별 토큰 버킷을 잠금 없이 관리합니다.
+ *
+ * 버킷 하나는 GCRA(Generic Cell Rate Algorithm) 방식으로 "이론상 다음 도착 시각(TAT)" 하나만 AtomicLong 으로 저장합니다.
+ * 요청마다 TAT 를 emission interval 만큼 미루는 CAS 한 번으로 토큰 차감과 충전을 동시에 처리하므로
+ * 토큰 수와 마지막 충전 시각을 따로 맞출 필요가 없고, 경합 시에도 락을 잡지 않습니다.
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    /**
+     * 판정 결과. 거절된 경우 retryAfterNanos 뒤에 다시 시도하면 허용됩니다.
+     */
+    public record Decision(boolean allowed, long retryAfterNanos) {
+        private static final Decision ALLOWED = new Decision(true, 0);
+    }
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(MeterRegistry meterRegistry) {
+        Gauge.builder("freeboard.ratelimit.buckets", buckets, ConcurrentHashMap::size)
+                .description("메모리에 유지 중인 요청 한도 버킷 수")
+                .register(meterRegistry);
+    }
+
+    public Decision tryAcquire(RateLimitPolicy policy, String key) {
+        long interval = policy.emissionIntervalNanos();
+        long burstTolerance = interval * policy.limit();
+        AtomicLong tat = buckets.computeIfAbsent(policy.name() + ":" + key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            // 버킷이 가득 찬 상태(오래 쉬었음)면 현재 시각부터 다시 셉니다.
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + interval;
+            long allowAt = next - burstTolerance;
+            if (allowAt - now > 0) {
+                return new Decision(false, allowAt - now);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 완전히 다시 찬(TAT 가 지난) 버킷은 새로 만든 버킷과 같으므로 제거해 메모리를 회수합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> {
+            long current = entry.getValue().get();
+            return current == Long.MIN_VALUE || current - now < 0;
+        });
+    }
+}
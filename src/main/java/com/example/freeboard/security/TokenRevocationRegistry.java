@@ -0,0 +1,242 @@
+package com.example.freeboard.security;
+
+import com.example.freeboard.cache.CacheInvalidation;
+import com.example.freeboard.cache.CacheInvalidationBus;
+import com.example.freeboard.config.CacheConfig;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 만료 전에 무효화된 JWT 를 메모리에서 판별합니다. 요청마다 DB 를 조회하지 않도록 두 가지를 유지합니다.
+ *
+ * 1. 토큰 단위(로그아웃): 무효화된 jti -> 만료 시각. 블룸 필터를 먼저 확인해 대부분의 정상 토큰은 비트 몇 개만 읽고 끝나며,
+ *    블룸 필터가 "있을 수도 있음" 이라고 할 때만 정확한 집합을 확인합니다.
+ * 2. 사용자 단위(전체 로그아웃, 관리자 무효화, 역할 변경, 탈퇴): 사용자 이름 -> not-before(밀리초).
+ *    이 시각 이전에 발급된 토큰은 모두 무효입니다. 발급 시각은 토큰의 iat_ms 클레임으로 비교하므로
+ *    무효화 직후 같은 초 안에 다시 로그인해 받은 토큰은 유효합니다.
+ *
+ * 두 항목 모두 관련 토큰이 전부 만료되면 필요 없으므로 주기적으로 지우고, 그때 블룸 필터도 남은 jti 로 다시 만듭니다.
+ * 무효화는 캐시 무효화 버스로 다른 노드에도 전파됩니다. (전달이 보장되지 않는 전송에서는 잃어버린 무효화가 생길 수 있음)
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String USER_PREFIX = "user:";
+
+    private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> notBeforeByUser = new ConcurrentHashMap<>();
+    private final CacheInvalidationBus bus;
+    private final long jwtExpirationMillis;
+    private final int bloomBits;
+    private final int bloomHashes;
+
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationRegistry(CacheInvalidationBus bus,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.jwtExpirationInMs}") long jwtExpirationInMs,
+                                   @Value("${app.jwt.revocation.bloom-bits:1048576}") int bloomBits,
+                                   @Value("${app.jwt.revocation.bloom-hashes:5}") int bloomHashes) {
+        if (Integer.bitCount(bloomBits) != 1 || bloomBits < Long.SIZE) {
+            throw new IllegalArgumentException("app.jwt.revocation.bloom-bits 는 64 이상의 2의 거듭제곱이어야 합니다: " + bloomBits);
+        }
+        this.bus = bus;
+        this.jwtExpirationMillis = jwtExpirationInMs;
+        this.bloomBits = bloomBits;
+        this.bloomHashes = bloomHashes;
+        this.bloomFilter = new BloomFilter(bloomBits, bloomHashes);
+        bus.subscribe(this::applyRemote);
+
+        Gauge.builder("freeboard.jwt.revoked.tokens", revokedTokens, ConcurrentHashMap::size)
+                .description("만료 전까지 유지 중인 무효화된 토큰(jti) 수")
+                .register(meterRegistry);
+        Gauge.builder("freeboard.jwt.revoked.users", notBeforeByUser, ConcurrentHashMap::size)
+                .description("not-before 가 설정된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서명/만료 검증을 통과한 토큰이 무효화되었는지 확인합니다. 요청마다 호출되며 할당 없이 O(1) 입니다.
+     */
+    public boolean isRevoked(Claims claims) {
+        Long notBefore = notBeforeByUser.get(claims.getSubject());
+        if (notBefore != null && issuedAtMillis(claims) < notBefore) {
+            return true;
+        }
+        String jti = claims.getId();
+        return jti != null && bloomFilter.mightContain(jti) && revokedTokens.containsKey(jti);
+    }
+
+    /**
+     * 토큰 하나를 만료 시각까지 무효화합니다. (로그아웃)
+     */
+    public void revokeToken(String jti, Date expiresAt) {
+        long expiresAtSeconds = expiresAt.getTime() / 1000;
+        addRevokedToken(jti, expiresAtSeconds);
+        bus.publish(new CacheInvalidation(CacheConfig.TOKEN_REVOCATIONS, TOKEN_PREFIX + expiresAtSeconds + ":" + jti));
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 토큰을 무효화합니다. 트랜잭션 안이면 커밋된 뒤에 적용합니다.
+     */
+    public void revokeAllForUser(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeAllForUserNow(username);
+                }
+            });
+        } else {
+            revokeAllForUserNow(username);
+        }
+    }
+
+    private void revokeAllForUserNow(String username) {
+        long notBefore = System.currentTimeMillis();
+        addNotBefore(username, notBefore);
+        bus.publish(new CacheInvalidation(CacheConfig.TOKEN_REVOCATIONS, USER_PREFIX + notBefore + ":" + username));
+    }
+
+    private void addRevokedToken(String jti, long expiresAtSeconds) {
+        // 정확한 집합에 먼저 넣어야 블룸 필터가 "있을 수도 있음" 이라고 할 때 항상 찾을 수 있습니다.
+        revokedTokens.merge(jti, expiresAtSeconds, Math::max);
+        bloomFilter.add(jti);
+    }
+
+    private void addNotBefore(String username, long notBeforeMillis) {
+        notBeforeByUser.merge(username, notBeforeMillis, Math::max);
+    }
+
+    // iat_ms 가 없는 토큰(이 클레임을 넣기 전에 발급)은 초 단위 iat 의 시작 시각으로 봅니다. (같은 초의 무효화에 걸리는 쪽)
+    private static long issuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(JwtTokenProvider.ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.getTime() : Long.MIN_VALUE;
+    }
+
+    // 다른 노드의 무효화는 다시 전파하지 않고 바로 적용합니다.
+    private void applyRemote(List<CacheInvalidation> batch) {
+        for (CacheInvalidation invalidation : batch) {
+            if (!CacheConfig.TOKEN_REVOCATIONS.equals(invalidation.cacheName()) || invalidation.isClear()) {
+                continue;
+            }
+            String key = invalidation.key();
+            boolean token = key.startsWith(TOKEN_PREFIX);
+            if (!token && !key.startsWith(USER_PREFIX)) {
+                continue;
+            }
+            int start = token ? TOKEN_PREFIX.length() : USER_PREFIX.length();
+            int separator = key.indexOf(':', start);
+            if (separator < 0) {
+                continue;
+            }
+            // jti 는 만료 시각(초), 사용자는 not-before(밀리초)
+            long time = Long.parseLong(key.substring(start, separator));
+            String value = key.substring(separator + 1);
+            if (token) {
+                addRevokedToken(value, time);
+            } else {
+                addNotBefore(value, time);
+            }
+        }
+    }
+
+    /**
+     * 만료된 토큰의 jti 와, 이전에 발급된 토큰이 모두 만료된 사용자의 not-before 를 지우고 블룸 필터를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.prune-interval-ms:60000}")
+    public void prune() {
+        long nowMillis = System.currentTimeMillis();
+        long nowSeconds = nowMillis / 1000;
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt < nowSeconds);
+        notBeforeByUser.values().removeIf(notBefore -> notBefore + jwtExpirationMillis < nowMillis);
+        if (!removed) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(bloomBits, bloomHashes);
+        revokedTokens.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+        // 다시 만드는 동안 이전 필터에만 추가된 jti 를 새 필터에도 넣습니다.
+        revokedTokens.keySet().forEach(rebuilt::add);
+    }
+
+    /**
+     * 동시에 추가할 수 있는 고정 크기 블룸 필터. 문자열의 char 를 직접 해시하므로 확인할 때 할당이 없습니다.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long mask;
+        private final int hashes;
+
+        private BloomFilter(int bits, int hashes) {
+            this.words = new AtomicLongArray(bits / Long.SIZE);
+            this.mask = bits - 1;
+            this.hashes = hashes;
+        }
+
+        private void add(String value) {
+            long hash = hash(value);
+            long h1 = mix(hash);
+            long h2 = mix(hash + 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) & mask;
+                int index = (int) (bit >>> 6);
+                long flag = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                } while ((word & flag) == 0 && !words.compareAndSet(index, word, word | flag));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long hash = hash(value);
+            long h1 = mix(hash);
+            long h2 = mix(hash + 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) & mask;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a (64비트)
+        private static long hash(String value) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            return hash;
+        }
+
+        // MurmurHash3 의 fmix64 (비트를 고르게 섞음)
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
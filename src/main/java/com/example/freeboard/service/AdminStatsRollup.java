@@ -0,0 +1,302 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.dto.AdminStatsResponse;
+import com.example.freeboard.event.CommentCreated;
+import com.example.freeboard.event.CommentDeleted;
+import com.example.freeboard.event.DomainEvent;
+import com.example.freeboard.event.DomainEventHandler;
+import com.example.freeboard.event.PostCreated;
+import com.example.freeboard.event.PostDeleted;
+import com.example.freeboard.event.PostLiked;
+import com.example.freeboard.event.PostRestored;
+import com.example.freeboard.event.PostSnapshot;
+import com.example.freeboard.event.UserDeleted;
+import com.example.freeboard.event.UserRegistered;
+import com.example.freeboard.repository.ArchivedPostRepository;
+import com.example.freeboard.repository.CommentRepository;
+import com.example.freeboard.repository.PostLikeRepository;
+import com.example.freeboard.repository.PostRepository;
+import com.example.freeboard.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 관리자 대시보드 통계(합계, 일별 게시글 수, 게시글이 많은 작성자, 오늘 좋아요를 많이 받은 게시글)를 메모리에서 유지합니다.
+ *
+ * 시작할 때 집계 쿼리로 한 번 채운 뒤에는 가입/글 작성/소프트 삭제/댓글/좋아요 이벤트로 값을 증감하므로,
+ * 대시보드 조회는 COUNT/GROUP BY 없이 미리 만들어 둔 스냅샷을 그대로 반환합니다. (배치 끝에서 변경이 있을 때만 스냅샷 재생성)
+ * 순위는 정렬된 집합으로 유지해 갱신은 O(log n), 상위 K 개는 앞에서부터 O(K) 로 꺼냅니다.
+ * 영구 삭제, 복구, 회원 탈퇴처럼 연쇄적으로 여러 값이 바뀌는 드문 관리 작업은 증감 대신 배치 끝에서 집계 쿼리로 다시 채웁니다.
+ */
+@Component
+public class AdminStatsRollup implements DomainEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminStatsRollup.class);
+
+    private static final Comparator<AuthorEntry> AUTHOR_ORDER = Comparator
+            .comparingLong(AuthorEntry::postCount).reversed()
+            .thenComparing(AuthorEntry::username);
+    private static final Comparator<LikedPostEntry> LIKED_ORDER = Comparator
+            .comparingLong(LikedPostEntry::likeCount).reversed()
+            .thenComparing(LikedPostEntry::postId, Comparator.reverseOrder());
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final int days;
+    private final int topSize;
+
+    // 아래 상태는 synchronized(this) 안에서만 읽고 씁니다. (이벤트 소비자 스레드, 시작 시 초기화, 날짜가 바뀐 뒤 첫 조회)
+    private long totalUsers;
+    private long totalPosts;
+    private long totalComments;
+    private long totalPostLikes;
+    private final TreeMap<LocalDate, Long> postsPerDay = new TreeMap<>();
+    private final Map<String, AuthorEntry> authors = new HashMap<>();
+    private final TreeSet<AuthorEntry> authorRanking = new TreeSet<>(AUTHOR_ORDER);
+    private LocalDate likesDay = LocalDate.now();
+    private final Map<Long, LikedPostEntry> likedToday = new HashMap<>();
+    private final TreeSet<LikedPostEntry> likedRanking = new TreeSet<>(LIKED_ORDER);
+    private boolean dirty;
+    private boolean reseedRequested;
+
+    private volatile AdminStatsResponse snapshot;
+
+    public AdminStatsRollup(UserRepository userRepository,
+                            PostRepository postRepository,
+                            CommentRepository commentRepository,
+                            PostLikeRepository postLikeRepository,
+                            ArchivedPostRepository archivedPostRepository,
+                            @Value("${app.admin-stats.days:30}") int days,
+                            @Value("${app.admin-stats.top-size:10}") int topSize) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.days = days;
+        this.topSize = topSize;
+        synchronized (this) {
+            publishSnapshot(LocalDate.now());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시(그리고 드문 연쇄 변경 후) 활성/보관 테이블의 집계 쿼리로 모든 값을 다시 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        long users = userRepository.count();
+        long posts = postRepository.countVisible() + archivedPostRepository.countVisible();
+        long comments = commentRepository.count() + archivedPostRepository.countComments();
+        long postLikes = postLikeRepository.count() + archivedPostRepository.countPostLikes();
+        List<Object[]> perDayRows = postRepository.countCreatedPerDay(today.minusDays(days - 1L).atStartOfDay());
+        List<Object[]> authorRows = new ArrayList<>(postRepository.countVisibleByAuthor());
+        authorRows.addAll(archivedPostRepository.countVisibleByAuthor());
+        List<Object[]> likedRows = postLikeRepository.countLikesSince(today.atStartOfDay());
+
+        synchronized (this) {
+            totalUsers = users;
+            totalPosts = posts;
+            totalComments = comments;
+            totalPostLikes = postLikes;
+
+            postsPerDay.clear();
+            for (Object[] row : perDayRows) {
+                postsPerDay.put(toLocalDate(row[0]), ((Number) row[1]).longValue());
+            }
+            authors.clear();
+            authorRanking.clear();
+            for (Object[] row : authorRows) {
+                addAuthorPosts((String) row[0], ((Number) row[1]).longValue());
+            }
+            likesDay = today;
+            likedToday.clear();
+            likedRanking.clear();
+            for (Object[] row : likedRows) {
+                putLiked(new LikedPostEntry((Long) row[0], (String) row[1], (String) row[2], ((Number) row[3]).longValue()));
+            }
+            reseedRequested = false;
+            publishSnapshot(today);
+        }
+        logger.info("관리자 통계를 초기화했습니다. (사용자 {}, 게시글 {}, 댓글 {}, 좋아요 {})", users, posts, comments, postLikes);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        boolean reseed;
+        synchronized (this) {
+            apply(event);
+            reseed = endOfBatch && reseedRequested;
+            if (endOfBatch && !reseed && dirty) {
+                publishSnapshot(LocalDate.now());
+            }
+        }
+        // 배치 안의 여러 연쇄 변경을 한 번의 재집계로 합칩니다.
+        if (reseed) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "admin-stats";
+    }
+
+    /**
+     * 마지막으로 만든 스냅샷을 반환합니다. 날짜가 바뀐 뒤 첫 조회이면 오늘 기준으로 다시 만듭니다. (DB 를 조회하지 않음)
+     */
+    public AdminStatsResponse getStats() {
+        AdminStatsResponse current = snapshot;
+        LocalDate today = LocalDate.now();
+        if (current.getGeneratedAt().toLocalDate().equals(today)) {
+            return current;
+        }
+        synchronized (this) {
+            publishSnapshot(today);
+            return snapshot;
+        }
+    }
+
+    private void apply(DomainEvent event) {
+        if (event instanceof UserRegistered) {
+            totalUsers++;
+        } else if (event instanceof PostCreated created) {
+            totalPosts++;
+            postsPerDay.merge(created.post().createdAt().toLocalDate(), 1L, Long::sum);
+            addAuthorPosts(created.post().authorUsername(), 1);
+        } else if (event instanceof PostDeleted deleted) {
+            if (deleted.hard()) {
+                reseedRequested = true;
+                return;
+            }
+            totalPosts = Math.max(0, totalPosts - 1);
+            addAuthorPosts(deleted.authorUsername(), -1);
+            removeLiked(deleted.postId());
+        } else if (event instanceof PostLiked liked) {
+            totalPostLikes = Math.max(0, totalPostLikes + (liked.liked() ? 1 : -1));
+            addLike(liked.post(), liked.liked() ? 1 : -1);
+        } else if (event instanceof CommentCreated) {
+            totalComments++;
+        } else if (event instanceof CommentDeleted deleted) {
+            totalComments = Math.max(0, totalComments - deleted.count());
+        } else if (event instanceof PostRestored || event instanceof UserDeleted) {
+            reseedRequested = true;
+            return;
+        } else {
+            return;
+        }
+        dirty = true;
+    }
+
+    private void addAuthorPosts(String username, long delta) {
+        if (username == null) {
+            return;
+        }
+        AuthorEntry previous = authors.remove(username);
+        long count = (previous != null ? previous.postCount() : 0) + delta;
+        if (previous != null) {
+            authorRanking.remove(previous);
+        }
+        if (count > 0) {
+            AuthorEntry entry = new AuthorEntry(username, count);
+            authors.put(username, entry);
+            authorRanking.add(entry);
+        }
+    }
+
+    // 좋아요 취소는 언제 누른 좋아요인지 모르므로 오늘 집계에 있을 때만 줄입니다.
+    private void addLike(PostSnapshot post, long delta) {
+        rollOverDay(LocalDate.now());
+        LikedPostEntry previous = likedToday.get(post.postId());
+        long count = (previous != null ? previous.likeCount() : 0) + delta;
+        removeLiked(post.postId());
+        if (count > 0) {
+            putLiked(new LikedPostEntry(post.postId(), post.title(), post.authorUsername(), count));
+        }
+    }
+
+    private void putLiked(LikedPostEntry entry) {
+        likedToday.put(entry.postId(), entry);
+        likedRanking.add(entry);
+    }
+
+    private void removeLiked(Long postId) {
+        LikedPostEntry removed = likedToday.remove(postId);
+        if (removed != null) {
+            likedRanking.remove(removed);
+        }
+    }
+
+    // 날짜가 바뀌면 오늘의 좋아요 순위를 비우고, 기간을 벗어난 일별 값을 버립니다.
+    private void rollOverDay(LocalDate today) {
+        if (!today.equals(likesDay)) {
+            likesDay = today;
+            likedToday.clear();
+            likedRanking.clear();
+        }
+        postsPerDay.headMap(today.minusDays(days - 1L)).clear();
+    }
+
+    private void publishSnapshot(LocalDate today) {
+        rollOverDay(today);
+        List<AdminStatsResponse.DailyCount> daily = new ArrayList<>(days);
+        for (LocalDate day = today.minusDays(days - 1L); !day.isAfter(today); day = day.plusDays(1)) {
+            daily.add(new AdminStatsResponse.DailyCount(day, postsPerDay.getOrDefault(day, 0L)));
+        }
+        List<AdminStatsResponse.AuthorCount> topAuthors = new ArrayList<>(topSize);
+        Iterator<AuthorEntry> authorIterator = authorRanking.iterator();
+        while (topAuthors.size() < topSize && authorIterator.hasNext()) {
+            AuthorEntry entry = authorIterator.next();
+            topAuthors.add(new AdminStatsResponse.AuthorCount(entry.username(), entry.postCount()));
+        }
+        List<AdminStatsResponse.LikedPost> mostLiked = new ArrayList<>(topSize);
+        Iterator<LikedPostEntry> likedIterator = likedRanking.iterator();
+        while (mostLiked.size() < topSize && likedIterator.hasNext()) {
+            LikedPostEntry entry = likedIterator.next();
+            mostLiked.add(new AdminStatsResponse.LikedPost(entry.postId(), entry.title(), entry.authorUsername(), entry.likeCount()));
+        }
+        snapshot = AdminStatsResponse.builder()
+                .totalUsers(totalUsers)
+                .totalPosts(totalPosts)
+                .totalComments(totalComments)
+                .totalPostLikes(totalPostLikes)
+                .postsPerDay(List.copyOf(daily))
+                .topAuthors(List.copyOf(topAuthors))
+                .mostLikedToday(List.copyOf(mostLiked))
+                .generatedAt(LocalDateTime.now())
+                .build();
+        dirty = false;
+    }
+
+    // 네이티브 쿼리의 DATE 컬럼은 드라이버/하이버네이트 설정에 따라 java.sql.Date 또는 LocalDate 로 옵니다.
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private record AuthorEntry(String username, long postCount) {
+    }
+
+    private record LikedPostEntry(Long postId, String title, String authorUsername, long likeCount) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.dto.AttachmentDto;
+import com.example.freeboard.entity.Attachment;
+import com.example.freeboard.entity.Post;
+import com.example.freeboard.entity.User;
+import com.example.freeboard.exception.BadRequestException;
+import com.example.freeboard.exception.ResourceNotFoundException;
+import com.example.freeboard.repository.AttachmentRepository;
+import com.example.freeboard.repository.PostRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 첨부 파일의 업로드/조회/삭제를 담당합니다.
+ *
+ * 업로드는 파일을 트랜잭션 밖에서 저장소에 쓴 뒤 첨부 행만 트랜잭션으로 저장합니다. 행 저장이 롤백되면 파일만 남는데,
+ * 이 파일은 아래의 정리 작업이 지웁니다.
+ *
+ * 첨부 행을 지울 때는 저장 파일을 바로 지우지 않습니다. 같은 내용을 다른 첨부가 가리키거나, 지우는 사이에 같은 내용이
+ * 다시 올라올 수 있기 때문입니다. 대신 주기 작업이 어떤 첨부도 참조하지 않고 유예 시간 동안 다시 쓰이지 않은 파일만 정리합니다.
+ * (사용자 탈퇴로 첨부 행이 DB 에서 연쇄 삭제된 경우도 같은 작업이 정리합니다.)
+ */
+@Service
+public class AttachmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentService.class);
+    private static final Pattern MEDIA_TYPE = Pattern.compile("[a-zA-Z0-9][a-zA-Z0-9!#$&^_.+-]*/[a-zA-Z0-9][a-zA-Z0-9!#$&^_.+-]*");
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final AttachmentRepository attachmentRepository;
+    private final PostRepository postRepository;
+    private final AttachmentStorage storage;
+    private final ThumbnailService thumbnailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPerPost;
+    private final Duration orphanGracePeriod;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             PostRepository postRepository,
+                             AttachmentStorage storage,
+                             ThumbnailService thumbnailService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.attachments.max-per-post:10}") int maxPerPost,
+                             @Value("${app.attachments.orphan-grace-minutes:60}") long orphanGraceMinutes) {
+        this.attachmentRepository = attachmentRepository;
+        this.postRepository = postRepository;
+        this.storage = storage;
+        this.thumbnailService = thumbnailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPerPost = maxPerPost;
+        this.orphanGracePeriod = Duration.ofMinutes(orphanGraceMinutes);
+    }
+
+    /**
+     * 게시글 작성자만 첨부를 올릴 수 있습니다.
+     * 파일 내용은 트랜잭션 밖에서 저장소에 먼저 쓰고, 첨부 행만 짧은 트랜잭션으로 저장합니다.
+     * (큰 파일을 쓰는 동안 DB 커넥션을 붙잡지 않음) 행 저장이 실패해 남은 파일은 정리 작업이 지웁니다.
+     */
+    public List<AttachmentDto> upload(Long postId, List<MultipartFile> files, User currentUser) {
+        List<MultipartFile> nonEmpty = files.stream().filter(file -> !file.isEmpty()).toList();
+        if (nonEmpty.isEmpty()) {
+            throw new BadRequestException("업로드할 파일이 없습니다.");
+        }
+        // 권한이 없거나 한도를 넘는 요청은 파일을 쓰기 전에 거절합니다. (트랜잭션 안에서 한 번 더 확인)
+        checkUpload(postId, nonEmpty.size(), currentUser);
+
+        List<AttachmentStorage.StoredBlob> blobs = new ArrayList<>(nonEmpty.size());
+        for (MultipartFile file : nonEmpty) {
+            try {
+                blobs.add(storage.store(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("첨부 파일을 저장하지 못했습니다.", e);
+            }
+        }
+        return transactionTemplate.execute(status -> saveAttachments(postId, nonEmpty, blobs, currentUser));
+    }
+
+    private void checkUpload(Long postId, int fileCount, User currentUser) {
+        Post post = postRepository.findByIdWithAuthor(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        if (!Objects.equals(post.getAuthor().getId(), currentUser.getId())) {
+            throw new IllegalArgumentException("첨부 파일 업로드 권한이 없습니다.");
+        }
+        if (attachmentRepository.countByPostId(postId) + fileCount > maxPerPost) {
+            throw new BadRequestException("게시글 하나에 첨부할 수 있는 파일은 최대 " + maxPerPost + "개입니다.");
+        }
+    }
+
+    private List<AttachmentDto> saveAttachments(Long postId, List<MultipartFile> files,
+                                                List<AttachmentStorage.StoredBlob> blobs, User currentUser) {
+        checkUpload(postId, files.size(), currentUser);
+        List<AttachmentDto> result = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            AttachmentStorage.StoredBlob blob = blobs.get(i);
+            Attachment attachment = new Attachment();
+            attachment.setPostId(postId);
+            attachment.setUploader(currentUser);
+            attachment.setSha256(blob.sha256());
+            attachment.setSize(blob.size());
+            attachment.setFilename(sanitizeFilename(file.getOriginalFilename()));
+            attachment.setContentType(sanitizeContentType(file.getContentType()));
+            result.add(AttachmentDto.from(attachmentRepository.save(attachment)));
+            if (ThumbnailService.isSupported(attachment.getContentType())) {
+                thumbnailService.requestAfterCommit(blob.sha256());
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttachmentDto> getAttachments(Long postId) {
+        return attachmentRepository.findByPostIdOrderByIdAsc(postId).stream()
+                .map(AttachmentDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 여러 게시글의 첨부를 IN 조회 한 번으로 가져와 게시글 ID 별로 묶습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<AttachmentDto>> getAttachmentsByPostIds(Collection<Long> postIds) {
+        Map<Long, List<AttachmentDto>> result = new LinkedHashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+        for (Attachment attachment : attachmentRepository.findByPostIdInOrderByIdAsc(postIds)) {
+            result.computeIfAbsent(attachment.getPostId(), id -> new ArrayList<>()).add(AttachmentDto.from(attachment));
+        }
+        return result;
+    }
+
+    /**
+     * 목록에 보여 줄 게시글별 대표 이미지(첫 번째 이미지 첨부)의 썸네일 URL 을 IN 조회 한 번으로 가져옵니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getListThumbnailUrls(Collection<Long> postIds) {
+        Map<Long, String> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : attachmentRepository.findFirstAttachmentIds(postIds, ThumbnailService.supportedTypes())) {
+            result.put((Long) row[0], AttachmentDto.thumbnailUrl((Long) row[1], ThumbnailSize.SMALL));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Attachment getAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("첨부 파일을 찾을 수 없습니다: " + attachmentId));
+    }
+
+    public Path resolveFile(Attachment attachment) {
+        return storage.resolve(attachment.getSha256());
+    }
+
+    @Transactional
+    public void delete(Long postId, Long attachmentId, User currentUser) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .filter(found -> found.getPostId().equals(postId))
+                .orElseThrow(() -> new ResourceNotFoundException("첨부 파일을 찾을 수 없습니다: " + attachmentId));
+        if (!Objects.equals(attachment.getUploader().getId(), currentUser.getId())) {
+            throw new IllegalArgumentException("첨부 파일 삭제 권한이 없습니다.");
+        }
+        attachmentRepository.delete(attachment);
+    }
+
+    // 게시글 영구 삭제 시 첨부 행도 함께 삭제 (저장 파일은 정리 작업이 지움)
+    @Transactional
+    public void deleteByPostId(Long postId) {
+        attachmentRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 어떤 첨부도 참조하지 않고 유예 시간 동안 다시 쓰이지 않은 저장 파일을 지웁니다.
+     */
+    @Scheduled(initialDelayString = "${app.attachments.sweep-initial-delay-ms:120000}",
+            fixedDelayString = "${app.attachments.sweep-interval-ms:3600000}")
+    public void sweepOrphanFiles() {
+        Instant cutoff = Instant.now().minus(orphanGracePeriod);
+        List<String> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+        int[] deleted = {0};
+        storage.forEachStored(sha256 -> {
+            batch.add(sha256);
+            if (batch.size() == SWEEP_BATCH_SIZE) {
+                deleted[0] += deleteUnreferenced(batch, cutoff);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            deleted[0] += deleteUnreferenced(batch, cutoff);
+        }
+        if (deleted[0] > 0) {
+            logger.info("참조되지 않는 첨부 파일 {}개를 정리했습니다.", deleted[0]);
+        }
+    }
+
+    private int deleteUnreferenced(List<String> hashes, Instant cutoff) {
+        Set<String> referenced = new HashSet<>(attachmentRepository.findReferencedHashes(hashes));
+        int deleted = 0;
+        for (String sha256 : hashes) {
+            if (referenced.contains(sha256)) {
+                continue;
+            }
+            try {
+                if (storage.lastModified(sha256).isBefore(cutoff) && storage.delete(sha256)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                logger.warn("첨부 파일 정리 실패: {}", sha256, e);
+            }
+        }
+        return deleted;
+    }
+
+    private static String sanitizeFilename(String originalFilename) {
+        String filename = StringUtils.getFilename(StringUtils.cleanPath(originalFilename == null ? "" : originalFilename));
+        if (!StringUtils.hasText(filename)) {
+            return "file";
+        }
+        // 헤더/경로에 쓰일 수 있으므로 제어 문자는 제거하고 길이를 제한합니다.
+        filename = filename.replaceAll("[\\p{Cntrl}\"\\\\]", "_");
+        return filename.length() > 255 ? filename.substring(filename.length() - 255) : filename;
+    }
+
+    private static String sanitizeContentType(String contentType) {
+        if (contentType != null && contentType.indexOf(';') >= 0) {
+            contentType = contentType.substring(0, contentType.indexOf(';')).trim(); // charset 등 매개변수 제외
+        }
+        if (contentType == null || !MEDIA_TYPE.matcher(contentType).matches() || contentType.length() > 100) {
+            return "application/octet-stream";
+        }
+        return contentType.toLowerCase();
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.freeboard.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부 파일 내용을 로컬 디스크에 내용 주소(content-addressed) 방식으로 저장합니다.
+ *
+ * 파일은 SHA-256 해시로 {dir}/ab/cd/abcd... 경로에 한 번만 저장되며, 같은 내용을 다시 올리면 새로 쓰지 않고 기존 파일을 가리킵니다.
+ * 업로드 본문은 서블릿 multipart 가 디스크 임시 파일로 받으므로(file-size-threshold=0) 메모리에 통째로 올라오지 않고,
+ * 그 임시 파일을 저장소의 tmp 디렉터리로 옮긴(transferTo, 같은 파일 시스템이면 rename) 뒤 FileChannel 로 한 번 읽어 해시만 계산합니다.
+ * 저장된 파일은 내용이 바뀌지 않으므로 해시를 그대로 ETag 로 쓰고 영구 캐시할 수 있습니다.
+ * 이미지의 썸네일은 원본 옆에 <sha256>.<크기>.jpg 로 저장됩니다.
+ */
+@Component
+public class AttachmentStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStorage.class);
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public AttachmentStorage(@Value("${app.attachments.dir:./data/attachments}") String dir) {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp");
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(tmpDir);
+        logger.info("첨부 파일 저장소: {}", root);
+    }
+
+    public record StoredBlob(String sha256, long size) {
+    }
+
+    /**
+     * 업로드된 파일을 저장소에 넣고 내용 해시를 반환합니다. 같은 해시의 파일이 이미 있으면 새로 저장하지 않습니다.
+     */
+    public StoredBlob store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            file.transferTo(temp);
+            String sha256 = digest(temp);
+            long size = Files.size(temp);
+            Path target = resolve(sha256);
+            if (Files.exists(target)) {
+                // 중복 내용: 기존 파일을 그대로 쓰고, 정리 작업이 방금 참조된 파일을 지우지 않도록 수정 시각을 갱신합니다.
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return new StoredBlob(sha256, size);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 동시에 올라온 경우: 먼저 옮긴 쪽을 사용
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+            return new StoredBlob(sha256, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 해시에 해당하는 저장 파일 경로를 반환합니다. (존재 여부는 확인하지 않음)
+     */
+    public Path resolve(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /**
+     * 원본 옆에 저장되는 썸네일 경로 (예: ab/cd/<sha256>.small.jpg). 원본과 마찬가지로 내용 해시로 주소가 정해집니다.
+     */
+    public Path resolveVariant(String sha256, ThumbnailSize size) {
+        Path original = resolve(sha256);
+        return original.resolveSibling(sha256 + size.fileSuffix());
+    }
+
+    /**
+     * writer 로 임시 파일을 쓴 뒤 썸네일 경로로 원자적으로 옮깁니다. (읽는 쪽은 완성된 파일만 보게 됨)
+     */
+    public void storeVariant(String sha256, ThumbnailSize size, VariantWriter writer) throws IOException {
+        Path temp = Files.createTempFile(tmpDir, "variant-", ".part");
+        try {
+            writer.write(temp);
+            Path target = resolveVariant(sha256, size);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    public interface VariantWriter {
+        void write(Path target) throws IOException;
+    }
+
+    // 원본과 함께 썸네일도 삭제합니다.
+    public boolean delete(String sha256) throws IOException {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            Files.deleteIfExists(resolveVariant(sha256, size));
+        }
+        return Files.deleteIfExists(resolve(sha256));
+    }
+
+    /**
+     * 저장된 모든 파일의 해시를 순회합니다. (tmp 디렉터리 제외)
+     */
+    public void forEachStored(Consumer<String> action) {
+        try (DirectoryStream<Path> level1 = Files.newDirectoryStream(root, path -> !path.equals(tmpDir) && Files.isDirectory(path))) {
+            for (Path dir1 : level1) {
+                try (DirectoryStream<Path> level2 = Files.newDirectoryStream(dir1, Files::isDirectory)) {
+                    for (Path dir2 : level2) {
+                        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir2)) {
+                            for (Path file : files) {
+                                String name = file.getFileName().toString();
+                                if (SHA256_HEX.matcher(name).matches()) {
+                                    action.accept(name);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Instant lastModified(String sha256) throws IOException {
+        return Files.getLastModifiedTime(resolve(sha256)).toInstant();
+    }
+
+    private static String digest(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
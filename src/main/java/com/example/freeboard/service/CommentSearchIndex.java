@@ -0,0 +1,109 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.entity.CommentTrigram;
+import com.example.freeboard.repository.CommentTrigramRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 관리자 댓글 검색용 트라이그램 색인(comment_trigrams)을 유지합니다.
+ *
+ * 본문을 소문자로 바꾼 뒤 연속된 코드 포인트 3개마다 하나의 트라이그램 코드를 만들고, 댓글마다 서로 다른 코드만 저장합니다.
+ * 검색어의 트라이그램을 모두 가진 댓글만 후보가 되므로, 본문 전체를 훑는 LIKE '%검색어%' 는 후보에 대해서만 확인용으로 실행됩니다.
+ * 색인 쓰기는 댓글 작성/수정과 같은 트랜잭션에서 하고, 삭제는 외래 키의 ON DELETE CASCADE 에 맡깁니다.
+ */
+@Component
+public class CommentSearchIndex {
+
+    // 트라이그램 하나의 길이 (코드 포인트 수)
+    public static final int GRAM_LENGTH = 3;
+    // 코드 포인트 최댓값(0x10FFFF)이 들어가는 비트 수
+    private static final int CODE_POINT_BITS = 21;
+
+    private final CommentTrigramRepository trigramRepository;
+    private final int maxQueryTrigrams;
+
+    public CommentSearchIndex(CommentTrigramRepository trigramRepository,
+                              @Value("${app.comment-search.max-query-trigrams:12}") int maxQueryTrigrams) {
+        this.trigramRepository = trigramRepository;
+        this.maxQueryTrigrams = maxQueryTrigrams;
+    }
+
+    // 색인과 검색이 같은 규칙으로 비교하도록 정규화 (대소문자 무시)
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화한 문자열의 서로 다른 트라이그램 코드를 등장 순서대로 반환합니다. 3자 미만이면 비어 있습니다.
+     */
+    public static Set<Long> trigrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(((long) codePoints[i] << (CODE_POINT_BITS * 2))
+                    | ((long) codePoints[i + 1] << CODE_POINT_BITS)
+                    | codePoints[i + 2]);
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어에서 후보 조회에 쓸 트라이그램을 고릅니다. 너무 많으면 검색어 전체에 고르게 퍼지도록 max-query-trigrams 개만 씁니다.
+     * (나머지 부분은 후보에 대한 LIKE 확인이 걸러내므로 결과는 같습니다.)
+     */
+    public List<Long> queryTrigrams(String normalizedPhrase) {
+        List<Long> grams = new ArrayList<>(trigrams(normalizedPhrase));
+        if (grams.size() <= maxQueryTrigrams) {
+            return grams;
+        }
+        List<Long> selected = new ArrayList<>(maxQueryTrigrams);
+        for (int i = 0; i < maxQueryTrigrams; i++) {
+            selected.add(grams.get((int) ((long) i * (grams.size() - 1) / (maxQueryTrigrams - 1))));
+        }
+        return selected;
+    }
+
+    // 새 댓글의 색인 추가
+    public void index(Long commentId, String content) {
+        insert(commentId, trigrams(normalize(content)));
+    }
+
+    // 수정된 댓글의 색인을 바뀐 트라이그램만 삭제/추가해 맞춥니다.
+    public void reindex(Long commentId, String content) {
+        Set<Long> current = trigrams(normalize(content));
+        Set<Long> removed = new HashSet<>(trigramRepository.findTrigramsByCommentId(commentId));
+        Set<Long> added = new LinkedHashSet<>(current);
+        added.removeAll(removed);
+        removed.removeAll(current);
+        if (!removed.isEmpty()) {
+            trigramRepository.deleteTrigrams(commentId, removed);
+        }
+        insert(commentId, added);
+    }
+
+    // 보관에서 되돌린 게시글처럼 네이티브 쿼리로 다시 들어온 댓글들의 색인 추가
+    public void indexPost(Long postId) {
+        for (Object[] row : trigramRepository.findContentByPostId(postId)) {
+            index((Long) row[0], (String) row[1]);
+        }
+    }
+
+    private void insert(Long commentId, Set<Long> grams) {
+        if (grams.isEmpty()) {
+            return;
+        }
+        List<CommentTrigram> rows = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            rows.add(new CommentTrigram(gram, commentId));
+        }
+        trigramRepository.saveAll(rows);
+    }
+}
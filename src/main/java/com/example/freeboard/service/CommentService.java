@@ -2,25 +2,47 @@ package com.example.freeboard.service;
 
 import com.example.freeboard.dto.AdminCommentResponseDto;
 import com.example.freeboard.dto.CommentCreateRequest;
+import com.example.freeboard.dto.CommentPageResponse;
 import com.example.freeboard.dto.CommentResponseDto;
 import com.example.freeboard.dto.CommentUpdateRequest;
 import com.example.freeboard.entity.Comment;
 import com.example.freeboard.entity.CommentLike;
 import com.example.freeboard.entity.Post;
 import com.example.freeboard.entity.User;
+import com.example.freeboard.event.CommentCreated;
+import com.example.freeboard.event.CommentDeleted;
+import com.example.freeboard.event.CommentLiked;
+import com.example.freeboard.event.DomainEventBus;
+import com.example.freeboard.event.PostSnapshot;
+import com.example.freeboard.exception.BadRequestException;
 import com.example.freeboard.exception.ResourceNotFoundException;
+import com.example.freeboard.exception.VersionConflictException;
 import com.example.freeboard.repository.CommentLikeRepository;
 import com.example.freeboard.repository.CommentRepository;
 import com.example.freeboard.repository.PostRepository;
+import com.example.freeboard.repository.UserRepository;
+import com.example.freeboard.retry.RetryOnOptimisticLock;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,26 +51,117 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final UserRepository userRepository;
+    private final CommentSearchIndex searchIndex;
+    private final DomainEventBus eventBus;
 
     @Autowired
-    public CommentService(CommentRepository commentRepository, PostRepository postRepository, CommentLikeRepository commentLikeRepository) {
+    public CommentService(CommentRepository commentRepository, PostRepository postRepository, CommentLikeRepository commentLikeRepository,
+                          UserRepository userRepository, CommentSearchIndex searchIndex, DomainEventBus eventBus) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.commentLikeRepository = commentLikeRepository;
+        this.userRepository = userRepository;
+        this.searchIndex = searchIndex;
+        this.eventBus = eventBus;
     }
 
+    /**
+     * 게시글의 최상위 댓글을 커서 기반으로 한 페이지씩 반환합니다.
+     * 커서는 마지막 댓글의 (정렬 키, id) 를 인코딩한 값이며, size + 1 개를 읽어 다음 페이지 존재 여부를 판단합니다.
+     * 전체 댓글 수는 COUNT 쿼리 대신 게시글에 유지되는 commentCount 를 사용합니다.
+     */
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getCommentsByPostId(Long postId, User currentUser) {
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        return comments.stream()
-                .map(comment -> {
-                    // KEY POINT: 각 댓글마다 현재 로그인한 사용자의 '좋아요' 여부를 확인합니다.
-                    boolean likedByCurrentUser = (currentUser != null) && commentLikeRepository.existsByCommentAndUser(comment, currentUser);
-                    long likeCount = comment.getLikeCount() != null ? comment.getLikeCount() : 0L;
-                    // KEY POINT: DTO 생성 시 '좋아요' 상태를 함께 전달합니다.
-                    return new CommentResponseDto(comment, likedByCurrentUser, likeCount);
-                })
-                .collect(Collectors.toList());
+    public CommentPageResponse getCommentsByPostId(Long postId, CommentSort sort, String cursor, int size, User currentUser) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. (ID: " + postId + ")"));
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = switch (sort) {
+                case OLDEST -> commentRepository.findRootsOldestFirst(postId, limit);
+                case NEWEST -> commentRepository.findRootsNewestFirst(postId, limit);
+                case LIKES -> commentRepository.findRootsMostLiked(postId, limit);
+            };
+        } else {
+            String[] key = decodeCursor(cursor);
+            try {
+                Long lastId = Long.valueOf(key[1]);
+                comments = switch (sort) {
+                    case OLDEST -> commentRepository.findRootsOldestFirstAfter(postId, LocalDateTime.parse(key[0]), lastId, limit);
+                    case NEWEST -> commentRepository.findRootsNewestFirstAfter(postId, LocalDateTime.parse(key[0]), lastId, limit);
+                    case LIKES -> commentRepository.findRootsMostLikedAfter(postId, Integer.valueOf(key[0]), lastId, limit);
+                };
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BadRequestException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+        String nextCursor = hasNext ? encodeCursor(sort, comments.get(comments.size() - 1)) : null;
+        return new CommentPageResponse(assembleTree(comments, currentUser), nextCursor, hasNext, post.getCommentCount());
+    }
+
+    private static String encodeCursor(CommentSort sort, Comment last) {
+        String key = sort == CommentSort.LIKES ? String.valueOf(last.getLikeCount()) : last.getCreatedAt().toString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + ":" + last.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // "정렬키:id" 형태로 복원합니다. 날짜 키에도 ':' 가 들어 있으므로 마지막 ':' 를 기준으로 나눕니다.
+    private static String[] decodeCursor(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+        int separator = decoded.lastIndexOf(':');
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+        return new String[]{decoded.substring(0, separator), decoded.substring(separator + 1)};
+    }
+
+    /**
+     * 특정 댓글과 그 아래 모든 답글을 트리로 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public CommentResponseDto getThread(Long postId, Long commentId, User currentUser) {
+        Comment root = commentRepository.findById(commentId)
+                .filter(comment -> comment.getPost().getId().equals(postId))
+                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. (ID: " + commentId + ")"));
+        List<Comment> subtree = commentRepository.findSubtree(postId, root.getPath());
+        return assembleTree(subtree, currentUser).get(0);
+    }
+
+    // path 순(부모가 항상 자식보다 앞) 목록을 한 번 훑으며 트리로 조립합니다. 부모가 목록에 없으면 최상위로 취급합니다.
+    private List<CommentResponseDto> assembleTree(List<Comment> comments, User currentUser) {
+        // KEY POINT: 현재 사용자의 '좋아요' 여부는 댓글마다 확인하지 않고 한 번의 IN 조회로 가져옵니다.
+        Set<Long> likedCommentIds = Collections.emptySet();
+        if (currentUser != null && !comments.isEmpty()) {
+            List<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toList());
+            likedCommentIds = new HashSet<>(commentLikeRepository.findLikedCommentIds(currentUser, commentIds));
+        }
+
+        Map<Long, CommentResponseDto> dtoById = new HashMap<>(comments.size() * 2);
+        List<CommentResponseDto> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            long likeCount = comment.getLikeCount() != null ? comment.getLikeCount() : 0L;
+            CommentResponseDto dto = new CommentResponseDto(comment, likedCommentIds.contains(comment.getId()), likeCount);
+            dtoById.put(comment.getId(), dto);
+            CommentResponseDto parent = comment.getParentId() != null ? dtoById.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(dto);
+            } else {
+                roots.add(dto);
+            }
+        }
+        return roots;
     }
 
     @Transactional
@@ -56,37 +169,79 @@ public class CommentService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. (ID: " + postId + ")"));
 
+        Comment parent = null;
+        if (commentRequest.getParentId() != null) {
+            parent = commentRepository.findById(commentRequest.getParentId())
+                    .filter(candidate -> candidate.getPost().getId().equals(postId))
+                    .orElseThrow(() -> new ResourceNotFoundException("부모 댓글을 찾을 수 없습니다. (ID: " + commentRequest.getParentId() + ")"));
+            // 최대 깊이에 도달한 댓글에 대한 답글은 같은 깊이의 형제로 붙입니다.
+            if (parent.getDepth() >= Comment.MAX_DEPTH - 1) {
+                parent = parent.getParentId() != null ? commentRepository.findById(parent.getParentId()).orElse(null) : null;
+            }
+        }
+
         Comment comment = new Comment();
         comment.setPost(post);
         comment.setAuthor(author);
         comment.setContent(commentRequest.getContent());
         comment.setLikeCount(0);
-        return commentRepository.save(comment);
+        comment.setReplyCount(0);
+        comment.setParentId(parent != null ? parent.getId() : null);
+        comment.setDepth(parent != null ? parent.getDepth() + 1 : 0);
+        Comment savedComment = commentRepository.save(comment);
+
+        // path 는 자신의 ID 가 필요하므로 INSERT 후에 채웁니다. (같은 트랜잭션에서 UPDATE 로 반영)
+        String parentPath = parent != null ? parent.getPath() : "";
+        savedComment.setPath(parentPath + Comment.pathSegment(savedComment.getId()));
+        List<Long> ancestorIds = savedComment.getAncestorIds();
+        if (!ancestorIds.isEmpty()) {
+            commentRepository.addReplyCount(ancestorIds, 1);
+        }
+        postRepository.addCommentCount(postId, 1);
+        // 이벤트용 값만 엔티티에 반영합니다. (commentCount 는 updatable = false 라 다시 저장되지 않음)
+        post.setCommentCount(post.getCommentCount() + 1);
+        userRepository.recordCommentCreated(author.getId(), LocalDateTime.now());
+        searchIndex.index(savedComment.getId(), savedComment.getContent());
+        eventBus.publish(new CommentCreated(PostSnapshot.of(post), savedComment.getId(), author.getId()));
+        return savedComment;
     }
 
+    // 같은 좋아요 행을 동시에 지우면 낙관적 잠금 충돌이 나므로, 처음부터 다시 읽어 토글합니다.
+    @RetryOnOptimisticLock
     @Transactional
     public CommentResponseDto toggleCommentLike(Long commentId, User currentUser) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. (ID: " + commentId + ")"));
 
         Optional<CommentLike> existingLike = commentLikeRepository.findByCommentAndUser(comment, currentUser);
+        boolean liked = existingLike.isEmpty();
 
         if (existingLike.isPresent()) {
             commentLikeRepository.delete(existingLike.get());
-            comment.setLikeCount(Math.max(0, comment.getLikeCount() - 1));
         } else {
             CommentLike newLike = new CommentLike();
             newLike.setComment(comment);
             newLike.setUser(currentUser);
             commentLikeRepository.save(newLike);
-            comment.setLikeCount(comment.getLikeCount() + 1);
         }
-        Comment updatedComment = commentRepository.save(comment);
+        // 좋아요 수는 원자적으로 증감하고, 응답/이벤트에는 증감 직후의 DB 값을 씁니다.
+        commentRepository.addLikeCount(commentId, liked ? 1 : -1);
+        comment.setLikeCount(commentRepository.findLikeCount(commentId));
+        Comment updatedComment = comment;
+        userRepository.addLikesReceived(comment.getAuthor().getId(), liked ? 1 : -1);
+        userRepository.touchLastActive(currentUser.getId(), LocalDateTime.now());
+        eventBus.publish(new CommentLiked(updatedComment.getPost().getId(), updatedComment.getId(),
+                (long) updatedComment.getLikeCount(), currentUser.getId(), liked));
 
         boolean likedByCurrentUser = commentLikeRepository.existsByCommentAndUser(updatedComment, currentUser);
         return new CommentResponseDto(updatedComment, likedByCurrentUser, (long) updatedComment.getLikeCount());
     }
 
+    /**
+     * 댓글 수정. 요청에 버전이 있으면 현재 버전과 다를 때 409(현재 버전 포함)로 거절하고,
+     * 커밋 전에 다른 수정이 먼저 커밋되면 낙관적 잠금 충돌로 처음부터 다시 실행됩니다.
+     */
+    @RetryOnOptimisticLock
     @Transactional
     public CommentResponseDto updateComment(Long id, CommentUpdateRequest commentRequest, User currentUser) {
         Comment comment = commentRepository.findById(id)
@@ -95,8 +250,13 @@ public class CommentService {
         if (!comment.getAuthor().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("이 댓글을 수정할 권한이 없습니다.");
         }
+        if (commentRequest.getVersion() != null && !commentRequest.getVersion().equals(comment.getVersion())) {
+            throw new VersionConflictException("다른 곳에서 댓글이 먼저 수정되었습니다. 최신 내용을 확인한 뒤 다시 수정해 주세요.", comment.getVersion());
+        }
         comment.setContent(commentRequest.getContent());
-        Comment updatedComment = commentRepository.save(comment);
+        Comment updatedComment = commentRepository.saveAndFlush(comment);
+        searchIndex.reindex(updatedComment.getId(), updatedComment.getContent());
+        userRepository.touchLastActive(currentUser.getId(), LocalDateTime.now());
 
         boolean likedByCurrentUser = commentLikeRepository.existsByCommentAndUser(updatedComment, currentUser);
         return new CommentResponseDto(updatedComment, likedByCurrentUser, (long) updatedComment.getLikeCount());
@@ -110,7 +270,7 @@ public class CommentService {
         if (!comment.getAuthor().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("이 댓글을 삭제할 권한이 없습니다.");
         }
-        commentRepository.delete(comment);
+        deleteWithReplies(comment);
     }
 
     @Transactional
@@ -118,17 +278,70 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. (ID: " + commentId + ")"));
 
-        commentRepository.delete(comment);
+        deleteWithReplies(comment);
     }
 
+    // 댓글과 그 아래 답글 전체를 path 범위로 한 번에 삭제하고, 조상 댓글들의 답글 수와 작성자들의 활동 지표를 줄입니다.
+    private void deleteWithReplies(Comment comment) {
+        Long postId = comment.getPost().getId();
+        if (comment.getPath().isEmpty()) {
+            // path 가 비어 있으면 접두사 조건이 게시글의 모든 댓글과 일치하므로 해당 댓글만 지웁니다.
+            commentRepository.delete(comment);
+            postRepository.addCommentCount(postId, -1);
+            userRepository.addCommentActivity(comment.getAuthor().getId(), -1, -comment.getLikeCount());
+            eventBus.publish(new CommentDeleted(postId, comment.getId(), 1));
+            return;
+        }
+        // 서브트리 크기는 작성자별 집계의 합으로 구합니다. (서브트리 COUNT 쿼리를 따로 돌리지 않음)
+        long subtreeSize = 0;
+        for (Object[] row : commentRepository.countSubtreeByAuthor(postId, comment.getPath())) {
+            int count = ((Number) row[1]).intValue();
+            int likes = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            userRepository.addCommentActivity((Long) row[0], -count, -likes);
+            subtreeSize += count;
+        }
+        List<Long> ancestorIds = comment.getAncestorIds();
+        if (!ancestorIds.isEmpty()) {
+            commentRepository.addReplyCount(ancestorIds, (int) -subtreeSize);
+        }
+        commentRepository.deleteSubtree(postId, comment.getPath());
+        postRepository.addCommentCount(postId, (int) -subtreeSize);
+        eventBus.publish(new CommentDeleted(postId, comment.getId(), subtreeSize));
+    }
+
+    /**
+     * 관리자 댓글 목록/검색. 검색어(phrase)는 대소문자를 무시한 부분 문자열 일치, author 는 정확한 사용자 이름입니다.
+     * 3자 이상의 검색어는 트라이그램 색인으로 후보를 좁히고, 결과는 전체 개수 없이 Slice 로 반환합니다.
+     */
     @Transactional(readOnly = true)
-    public Page<AdminCommentResponseDto> getAllCommentsForAdmin(Pageable pageable, String search) {
-        Page<Comment> commentsPage;
-        if (search != null && !search.trim().isEmpty()) {
-            commentsPage = commentRepository.findByContentContainingIgnoreCaseForAdmin(search, pageable);
+    public Slice<AdminCommentResponseDto> searchCommentsForAdmin(String phrase, String author, Pageable pageable) {
+        Long authorId = null;
+        if (author != null && !author.isBlank()) {
+            Optional<User> authorUser = userRepository.findByUsername(author.trim());
+            if (authorUser.isEmpty()) {
+                return new SliceImpl<>(Collections.emptyList(), pageable, false);
+            }
+            authorId = authorUser.get().getId();
+        }
+
+        Slice<Comment> comments;
+        if (phrase == null || phrase.isEmpty()) {
+            comments = authorId != null
+                    ? commentRepository.findByAuthorForAdmin(authorId, pageable)
+                    : commentRepository.findAllForAdmin(pageable);
         } else {
-            commentsPage = commentRepository.findAllForAdmin(pageable);
+            String normalized = CommentSearchIndex.normalize(phrase);
+            String pattern = "%" + escapeLike(normalized) + "%";
+            List<Long> trigrams = searchIndex.queryTrigrams(normalized);
+            comments = trigrams.isEmpty()
+                    ? commentRepository.searchByContentForAdmin(pattern, authorId, pageable)
+                    : commentRepository.searchByTrigramsForAdmin(trigrams, trigrams.size(), pattern, authorId, pageable);
         }
-        return commentsPage.map(AdminCommentResponseDto::fromEntity);
+        return comments.map(AdminCommentResponseDto::fromEntity);
+    }
+
+    // LIKE 패턴의 특수 문자를 ESCAPE '!' 기준으로 이스케이프
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
-}
\ No newline at end of file
+}
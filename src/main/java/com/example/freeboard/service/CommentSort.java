@@ -0,0 +1,25 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * 댓글 목록 정렬 기준. 각 정렬은 (정렬 키, id) 쌍으로 커서를 만들어 동일한 키가 있어도 순서가 안정적입니다.
+ */
+public enum CommentSort {
+    OLDEST,
+    NEWEST,
+    LIKES;
+
+    public static CommentSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return OLDEST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 댓글 정렬입니다: " + value + " (oldest, newest, likes)");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.repository.CommentTrigramRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 트라이그램 색인이 없는 기존 댓글을 청크 단위로 색인하는 백그라운드 작업입니다.
+ *
+ * id 순서로 chunk-size 건씩 본문을 읽어 색인하고, 청크마다 트랜잭션을 따로 커밋합니다.
+ * 3자 미만이라 색인할 것이 없는 댓글은 커서(lastId)가 지나가므로 다시 읽지 않습니다.
+ * 한 번 끝까지 돌아 더 색인할 행이 없으면 이후 실행은 건너뜁니다.
+ */
+@Component
+public class CommentTrigramBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentTrigramBackfillJob.class);
+
+    private final CommentTrigramRepository trigramRepository;
+    private final CommentSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private long lastId = 0L;
+    private volatile boolean completed = false;
+
+    public CommentTrigramBackfillJob(CommentTrigramRepository trigramRepository,
+                                     CommentSearchIndex searchIndex,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.comment-search.backfill.enabled:true}") boolean enabled,
+                                     @Value("${app.comment-search.backfill.chunk-size:500}") int chunkSize,
+                                     @Value("${app.comment-search.backfill.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.trigramRepository = trigramRepository;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${app.comment-search.backfill.initial-delay-ms:45000}",
+            fixedDelayString = "${app.comment-search.backfill.interval-ms:60000}")
+    public void run() {
+        if (!enabled || completed) {
+            return;
+        }
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            long chunkStart = lastId;
+            int indexed;
+            try {
+                indexed = transactionTemplate.execute(status -> backfillChunk());
+            } catch (Exception e) {
+                // 롤백된 청크는 다음 실행에서 다시 처리합니다.
+                lastId = chunkStart;
+                logger.error("댓글 트라이그램 백필 청크 처리 실패 (시작 id {})", chunkStart, e);
+                return;
+            }
+            total += indexed;
+            if (indexed < chunkSize) {
+                completed = true;
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("댓글 {}건을 검색 색인에 추가했습니다. (마지막 id {})", total, lastId);
+        }
+        if (completed) {
+            logger.info("댓글 트라이그램 백필이 끝났습니다.");
+        }
+    }
+
+    private int backfillChunk() {
+        List<Object[]> rows = trigramRepository.findContentMissingTrigrams(lastId, PageRequest.of(0, chunkSize));
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            searchIndex.index(id, (String) row[1]);
+            lastId = id;
+        }
+        return rows.size();
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.freeboard.service;
 
+import com.example.freeboard.config.CacheConfig;
 import com.example.freeboard.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,7 +19,9 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // JWT 인증 필터가 요청마다 호출하므로 캐시합니다. 역할 변경/탈퇴 시 UserService 가 지우고, 다른 노드에도 전파됩니다.
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 여기서 userRepository.findByUsername(username)은 우리가 만든 User 엔티티를 반환하고,
         // 이 User 엔티티가 UserDetails를 구현했으므로, 그대로 반환할 수 있습니다.
@@ -0,0 +1,118 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.entity.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문에서 목록/검색 결과에 보여 줄 발췌문(excerpt)을 만듭니다.
+ *
+ * 발췌문은 게시글 작성/수정 시 한 번 계산해 post.excerpt 컬럼에 저장하므로,
+ * 목록과 검색 결과는 본문(TEXT) 컬럼을 읽지 않고 이 값만으로 미리보기와 하이라이트 스니펫을 만듭니다.
+ */
+@Component
+public class ExcerptGenerator {
+
+    private static final String ELLIPSIS = "…";
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern MARKDOWN_IMAGE_OR_LINK = Pattern.compile("!?\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_SYMBOL = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+|[*_`~]{1,3}");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int length;
+    private final int snippetRadius;
+
+    public ExcerptGenerator(@Value("${app.excerpt.length:200}") int length,
+                            @Value("${app.excerpt.snippet-radius:40}") int snippetRadius) {
+        this.length = Math.min(length, Post.EXCERPT_MAX_LENGTH - ELLIPSIS.length());
+        this.snippetRadius = snippetRadius;
+    }
+
+    /**
+     * 본문에서 마크업(HTML 태그, 마크다운 기호)을 걷어내고 공백을 정리한 뒤 앞부분 length 자를 반환합니다.
+     * 잘린 경우 끝에 말줄임표를 붙입니다.
+     */
+    public String generate(String content) {
+        if (content == null) {
+            return "";
+        }
+        String text = SCRIPT_OR_STYLE.matcher(content).replaceAll(" ");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = MARKDOWN_IMAGE_OR_LINK.matcher(text).replaceAll("$1");
+        text = MARKDOWN_SYMBOL.matcher(text).replaceAll("");
+        text = unescapeEntities(text);
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+        if (text.codePointCount(0, text.length()) <= length) {
+            return text;
+        }
+        int end = text.offsetByCodePoints(0, length);
+        return text.substring(0, end).trim() + ELLIPSIS;
+    }
+
+    /**
+     * 발췌문에서 검색어가 처음 나오는 위치 주변(앞뒤 snippet-radius 자)을 잘라 검색어를 &lt;mark&gt; 로 감싼 HTML 을 반환합니다.
+     * 나머지 텍스트는 HTML 이스케이프됩니다. 발췌문에 검색어가 없으면(본문 뒷부분에서만 일치) null 을 반환합니다.
+     */
+    public String highlight(String excerpt, String keyword) {
+        if (excerpt == null || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String needle = keyword.trim().toLowerCase(Locale.ROOT);
+        String lower = excerpt.toLowerCase(Locale.ROOT);
+        // toLowerCase 로 길이가 바뀌는 문자가 있으면 위치가 어긋나므로 하이라이트하지 않습니다.
+        if (lower.length() != excerpt.length()) {
+            return null;
+        }
+        int match = lower.indexOf(needle);
+        if (match < 0) {
+            return null;
+        }
+        int start = Math.max(0, match - snippetRadius);
+        int end = Math.min(excerpt.length(), match + needle.length() + snippetRadius);
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int cursor = start;
+        while (match >= 0 && match + needle.length() <= end) {
+            appendEscaped(snippet, excerpt, cursor, match);
+            snippet.append("<mark>");
+            appendEscaped(snippet, excerpt, match, match + needle.length());
+            snippet.append("</mark>");
+            cursor = match + needle.length();
+            match = lower.indexOf(needle, cursor);
+        }
+        appendEscaped(snippet, excerpt, cursor, end);
+        if (end < excerpt.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+
+    private static String unescapeEntities(String text) {
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static void appendEscaped(StringBuilder out, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
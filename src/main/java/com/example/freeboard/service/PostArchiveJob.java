@@ -0,0 +1,74 @@
+package com.example.freeboard.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 대상 게시글을 청크 단위로 주기적으로 옮기는 백그라운드 작업입니다.
+ * 청크마다 트랜잭션을 따로 커밋하므로 잠금 시간이 짧고, 한 번 실행에서 옮기는 양은 max-chunks-per-run 으로 제한합니다.
+ * 기본으로는 소프트 삭제된 게시글만 옮기며, 오래된 게시글까지 옮기려면 app.archive.age-based.enabled 를 켭니다.
+ * (보관된 살아 있는 게시글은 상세 조회만 되고 수정/좋아요/댓글 작성은 복원 전까지 되지 않음)
+ */
+@Component
+public class PostArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostArchiveJob.class);
+
+    private final PostArchiveService postArchiveService;
+    private final boolean enabled;
+    private final boolean ageBased;
+    private final int maxAgeDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public PostArchiveJob(PostArchiveService postArchiveService,
+                          @Value("${app.archive.enabled:true}") boolean enabled,
+                          @Value("${app.archive.age-based.enabled:false}") boolean ageBased,
+                          @Value("${app.archive.max-age-days:365}") int maxAgeDays,
+                          @Value("${app.archive.chunk-size:500}") int chunkSize,
+                          @Value("${app.archive.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.postArchiveService = postArchiveService;
+        this.enabled = enabled;
+        this.ageBased = ageBased;
+        this.maxAgeDays = maxAgeDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${app.archive.initial-delay-ms:60000}", fixedDelayString = "${app.archive.interval-ms:3600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> candidates = postArchiveService.findCandidates(ageBased, cutoff, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            try {
+                total += postArchiveService.archiveChunk(candidates, ageBased, cutoff);
+            } catch (Exception e) {
+                logger.error("게시글 보관 청크 처리 실패 (후보 {}건)", candidates.size(), e);
+                break;
+            }
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            if (ageBased) {
+                logger.info("게시글 {}건을 보관 테이블로 옮겼습니다. (기준: {} 이전 또는 삭제됨)", total, cutoff);
+            } else {
+                logger.info("삭제된 게시글 {}건을 보관 테이블로 옮겼습니다.", total);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.dto.PostResponseDto;
+import com.example.freeboard.entity.ArchivedPost;
+import com.example.freeboard.repository.ArchivedPostRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 소프트 삭제된 게시글(설정하면 오래된 게시글도)을 댓글/좋아요와 함께 보관(archived_*) 테이블로 옮기고, 다시 되돌립니다.
+ * 활성 테이블에는 살아 있는 게시글만 남으므로 목록/검색 쿼리가 훑는 행 수가 줄어듭니다.
+ */
+@Service
+public class PostArchiveService {
+
+    private final ArchivedPostRepository archivedPostRepository;
+    private final CommentSearchIndex commentSearchIndex;
+
+    public PostArchiveService(ArchivedPostRepository archivedPostRepository, CommentSearchIndex commentSearchIndex) {
+        this.archivedPostRepository = archivedPostRepository;
+        this.commentSearchIndex = commentSearchIndex;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findCandidates(boolean includeAged, LocalDateTime cutoff, int limit) {
+        return archivedPostRepository.findArchiveCandidateIds(includeAged, cutoff, limit);
+    }
+
+    /**
+     * 후보 게시글 한 청크를 하나의 트랜잭션으로 옮깁니다. 실제로 옮긴 게시글 수를 반환합니다.
+     */
+    @Transactional
+    public int archiveChunk(List<Long> candidateIds, boolean includeAged, LocalDateTime cutoff) {
+        List<Long> ids = archivedPostRepository.lockArchiveCandidates(candidateIds, includeAged, cutoff);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 부모 -> 자식 순으로 복사하고, 자식 -> 부모 순으로 지웁니다.
+        int moved = archivedPostRepository.copyPostsToArchive(ids);
+        archivedPostRepository.copyCommentsToArchive(ids);
+        archivedPostRepository.copyPostLikesToArchive(ids);
+        archivedPostRepository.copyCommentLikesToArchive(ids);
+
+        archivedPostRepository.deleteLiveCommentLikes(ids);
+        archivedPostRepository.deleteLiveComments(ids);
+        archivedPostRepository.deleteLivePostLikes(ids);
+        archivedPostRepository.deleteLivePosts(ids);
+        return moved;
+    }
+
+    /**
+     * 보관된 게시글을 읽기 전용 상세 응답으로 반환합니다. (조회수는 올리지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostResponseDto> findArchivedPost(Long id) {
+        return archivedPostRepository.findByIdWithAuthor(id).map(this::toResponse);
+    }
+
+    /**
+     * 보관된 게시글을 활성 테이블로 되돌리고, 되돌리기 전의 작성자와 삭제 여부를 반환합니다.
+     * 보관 테이블에 없으면 빈 값을 반환합니다.
+     */
+    @Transactional
+    public Optional<RestoredPost> restore(Long id) {
+        Optional<ArchivedPost> archived = archivedPostRepository.findById(id);
+        if (archived.isEmpty()) {
+            return Optional.empty();
+        }
+        RestoredPost restored = new RestoredPost(archived.get().getAuthor().getId(), archived.get().isDeleted());
+        archivedPostRepository.restorePost(id);
+        archivedPostRepository.restorePostLikes(id);
+        archivedPostRepository.restoreComments(id);
+        archivedPostRepository.restoreCommentLikes(id);
+        archivedPostRepository.deleteArchivedPost(id);
+        // 보관할 때 댓글과 함께 지워진 검색 색인을 다시 만듭니다.
+        commentSearchIndex.indexPost(id);
+        return Optional.of(restored);
+    }
+
+    /**
+     * 보관된 게시글을 영구 삭제합니다. 보관 테이블에 없으면 false 를 반환합니다.
+     */
+    @Transactional
+    public boolean deleteArchived(Long id) {
+        return archivedPostRepository.deleteArchivedPost(id) > 0;
+    }
+
+    // 복원된 게시글의 작성자 ID 와, 보관 당시 소프트 삭제 상태였는지 여부 (활동 지표 보정용)
+    public record RestoredPost(Long authorId, boolean wasDeleted) {
+    }
+
+    private PostResponseDto toResponse(ArchivedPost post) {
+        return PostResponseDto.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorUsername(post.getAuthor().getUsername())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount().longValue())
+                .commentCount(post.getCommentCount().longValue())
+                .deleted(post.isDeleted())
+                .archived(true)
+                .build();
+    }
+}
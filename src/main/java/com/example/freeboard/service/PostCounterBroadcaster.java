@@ -0,0 +1,68 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.dto.PostCounterMessage;
+import com.example.freeboard.event.CommentLiked;
+import com.example.freeboard.event.DomainEvent;
+import com.example.freeboard.event.DomainEventHandler;
+import com.example.freeboard.event.PostLiked;
+import com.example.freeboard.event.PostViewed;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수/좋아요 변경을 게시글 단위로 모아 두었다가 일정 주기마다 한 번씩 WebSocket 으로 전송합니다.
+ * 좋아요가 아무리 몰려도 게시글당 전송 주기(app.realtime.flush-interval-ms)마다 최대 한 프레임만 나가므로
+ * 브로드캐스트 비용은 이벤트 수와 무관하게 일정합니다.
+ * 카운터 변경은 도메인 이벤트 버스의 소비자 스레드에서 커밋 이후에 전달됩니다.
+ */
+@Component
+public class PostCounterBroadcaster implements DomainEventHandler {
+
+    private static final String TOPIC_PREFIX = "/topic/posts/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 전송 대기 중인 게시글 ID -> 합쳐진 최신 카운터. 키 집합이 곧 dirty-set 입니다.
+    private final ConcurrentHashMap<Long, PostCounterMessage> pending = new ConcurrentHashMap<>();
+
+    public PostCounterBroadcaster(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof PostViewed viewed) {
+            markDirty(PostCounterMessage.ofViewCount(viewed.post().postId(), viewed.post().viewCount()));
+        } else if (event instanceof PostLiked liked) {
+            markDirty(PostCounterMessage.ofLikeCount(liked.post().postId(), liked.post().likeCount()));
+        } else if (event instanceof CommentLiked liked) {
+            markDirty(PostCounterMessage.ofCommentLikeCount(liked.postId(), liked.commentId(), liked.likeCount()));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "counter-broadcaster";
+    }
+
+    /**
+     * dirty-set 에 쌓인 게시글마다 한 프레임씩 전송합니다.
+     * remove 로 꺼낸 뒤 전송하므로 전송 중에 들어온 변경은 다음 주기에 새 프레임으로 나갑니다.
+     */
+    @Scheduled(fixedDelayString = "${app.realtime.flush-interval-ms:250}")
+    public void flush() {
+        for (Long postId : pending.keySet()) {
+            PostCounterMessage message = pending.remove(postId);
+            if (message != null) {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + postId, message);
+            }
+        }
+    }
+
+    private void markDirty(PostCounterMessage message) {
+        pending.merge(message.getPostId(), message, PostCounterMessage::merge);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * excerpt 컬럼이 비어 있는 기존 게시글의 발췌문을 청크 단위로 채우는 백그라운드 작업입니다.
+ *
+ * id 순서로 chunk-size 건씩 본문을 읽어 발췌문을 계산하고, 청크마다 트랜잭션을 따로 커밋합니다.
+ * 벌크 UPDATE 로 excerpt 만 갱신하므로 게시글의 수정 시각은 바뀌지 않습니다.
+ * 한 번 끝까지 돌아 더 채울 행이 없으면 이후 실행은 건너뜁니다.
+ */
+@Component
+public class PostExcerptBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostExcerptBackfillJob.class);
+
+    private final PostRepository postRepository;
+    private final ExcerptGenerator excerptGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private long lastId = 0L;
+    private volatile boolean completed = false;
+
+    public PostExcerptBackfillJob(PostRepository postRepository,
+                                  ExcerptGenerator excerptGenerator,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.excerpt.backfill.enabled:true}") boolean enabled,
+                                  @Value("${app.excerpt.backfill.chunk-size:500}") int chunkSize,
+                                  @Value("${app.excerpt.backfill.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.postRepository = postRepository;
+        this.excerptGenerator = excerptGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${app.excerpt.backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${app.excerpt.backfill.interval-ms:60000}")
+    public void run() {
+        if (!enabled || completed) {
+            return;
+        }
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            long chunkStart = lastId;
+            int filled;
+            try {
+                filled = transactionTemplate.execute(status -> backfillChunk());
+            } catch (Exception e) {
+                // 롤백된 청크는 다음 실행에서 다시 처리합니다.
+                lastId = chunkStart;
+                logger.error("발췌문 백필 청크 처리 실패 (시작 id {})", chunkStart, e);
+                return;
+            }
+            total += filled;
+            if (filled < chunkSize) {
+                completed = true;
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("게시글 {}건의 발췌문을 채웠습니다. (마지막 id {})", total, lastId);
+        }
+        if (completed) {
+            logger.info("게시글 발췌문 백필이 끝났습니다.");
+        }
+    }
+
+    private int backfillChunk() {
+        List<Object[]> rows = postRepository.findContentMissingExcerpt(lastId, PageRequest.of(0, chunkSize));
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            postRepository.updateExcerpt(id, excerptGenerator.generate((String) row[1]));
+            lastId = id;
+        }
+        return rows.size();
+    }
+}
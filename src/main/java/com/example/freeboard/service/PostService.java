@@ -1,22 +1,46 @@
 package com.example.freeboard.service;
 
+import com.example.freeboard.dto.AttachmentDto;
+import com.example.freeboard.dto.CommentPageResponse;
 import com.example.freeboard.dto.PostCreateRequest;
+import com.example.freeboard.dto.PostDetailResponse;
+import com.example.freeboard.dto.PostListPage;
+import com.example.freeboard.dto.PostListRow;
 import com.example.freeboard.dto.PostResponseDto;
 import com.example.freeboard.dto.PostUpdateRequest;
 import com.example.freeboard.entity.Post;
 import com.example.freeboard.entity.PostLike;
 import com.example.freeboard.entity.User;
+import com.example.freeboard.event.DomainEventBus;
+import com.example.freeboard.event.PostCreated;
+import com.example.freeboard.event.PostDeleted;
+import com.example.freeboard.event.PostLiked;
+import com.example.freeboard.event.PostRestored;
+import com.example.freeboard.event.PostSnapshot;
+import com.example.freeboard.event.PostViewed;
+import com.example.freeboard.exception.VersionConflictException;
 import com.example.freeboard.repository.CommentRepository;
 import com.example.freeboard.repository.PostLikeRepository;
 import com.example.freeboard.repository.PostRepository;
+import com.example.freeboard.repository.UserRepository;
+import com.example.freeboard.retry.RetryOnOptimisticLock;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class PostService {
@@ -24,50 +48,92 @@ public class PostService {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
+    private final TrendingPostRanking trendingPostRanking;
+    private final DomainEventBus eventBus;
+    private final PostArchiveService postArchiveService;
+    private final CommentService commentService;
+    private final ExcerptGenerator excerptGenerator;
+    private final AttachmentService attachmentService;
+    private final UserRepository userRepository;
 
-    public PostService(PostRepository postRepository, PostLikeRepository postLikeRepository, CommentRepository commentRepository) {
+    public PostService(PostRepository postRepository, PostLikeRepository postLikeRepository, CommentRepository commentRepository,
+                       TrendingPostRanking trendingPostRanking, DomainEventBus eventBus, PostArchiveService postArchiveService,
+                       CommentService commentService, ExcerptGenerator excerptGenerator, AttachmentService attachmentService,
+                       UserRepository userRepository) {
         this.postRepository = postRepository;
         this.postLikeRepository = postLikeRepository;
         this.commentRepository = commentRepository;
+        this.trendingPostRanking = trendingPostRanking;
+        this.eventBus = eventBus;
+        this.postArchiveService = postArchiveService;
+        this.commentService = commentService;
+        this.excerptGenerator = excerptGenerator;
+        this.attachmentService = attachmentService;
+        this.userRepository = userRepository;
     }
 
+    /**
+     * 게시글 목록을 조회합니다. 행은 쿼리 결과에서 바로 PostListRow 로 만들어지고,
+     * includeContent 가 false 이면 본문(TEXT) 컬럼을 읽지 않습니다.
+     */
     @Transactional(readOnly = true)
-    public Page<PostResponseDto> getAllPosts(Pageable pageable, String searchKeyword) {
-        Page<Post> postsPage;
-        if (searchKeyword != null && !searchKeyword.trim().isEmpty()) {
-            postsPage = postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseWithAuthor(searchKeyword, pageable);
+    public PostListPage getAllPosts(Pageable pageable, String searchKeyword, boolean includeContent) {
+        boolean search = searchKeyword != null && !searchKeyword.trim().isEmpty();
+        Page<PostListRow> rows;
+        if (search) {
+            rows = includeContent
+                    ? postRepository.searchListRows(searchKeyword, pageable)
+                    : postRepository.searchSummaries(searchKeyword, pageable);
+            // 검색 결과에는 발췌문에서 검색어 주변을 하이라이트한 스니펫을 붙입니다. (본문은 읽지 않음)
+            rows = rows.map(row -> row.withSnippet(excerptGenerator.highlight(row.excerpt(), searchKeyword)));
         } else {
-            postsPage = postRepository.findAllWithAuthor(pageable);
+            rows = includeContent
+                    ? postRepository.findAllListRows(pageable)
+                    : postRepository.findAllSummaries(pageable);
         }
-        return postsPage.map(post -> {
-            Long likeCount = postLikeRepository.countByPost(post);
-            Long commentCount = commentRepository.countByPostId(post.getId());
-            return PostResponseDto.builder()
-                    .id(post.getId())
-                    .title(post.getTitle())
-                    .authorUsername(post.getAuthor().getUsername())
-                    .createdAt(post.getCreatedAt())
-                    .viewCount(post.getViewCount())
-                    .likeCount(likeCount)
-                    .commentCount(commentCount)
-                    .build();
-        });
+        // 대표 이미지 썸네일은 페이지의 게시글 ID 로 IN 조회 한 번
+        Map<Long, String> thumbnailUrls = attachmentService.getListThumbnailUrls(
+                rows.getContent().stream().map(PostListRow::id).toList());
+        if (!thumbnailUrls.isEmpty()) {
+            rows = rows.map(row -> row.withThumbnailUrl(thumbnailUrls.get(row.id())));
+        }
+        return new PostListPage(rows);
+    }
+
+    private static PostResponseDto toSummaryResponse(PostListRow row) {
+        return PostResponseDto.builder()
+                .id(row.id())
+                .title(row.title())
+                .excerpt(row.excerpt())
+                .authorUsername(row.authorUsername())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .viewCount(row.viewCount())
+                .likeCount(row.likeCount().longValue())
+                .commentCount(row.commentCount().longValue())
+                .build();
     }
 
     @Transactional
     public PostResponseDto getPostById(Long id, Optional<User> currentUserOpt) {
-        Post post = postRepository.findByIdWithAuthor(id)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id));
+        Optional<Post> livePost = postRepository.findByIdWithAuthor(id);
+        if (livePost.isEmpty()) {
+            // 활성 테이블에 없으면 보관 테이블에서 읽기 전용으로 찾습니다.
+            return findArchivedOrThrow(id);
+        }
+        Post post = livePost.get();
+        // 조회수는 원자적 UPDATE 로 올리고, 응답/이벤트용 값만 엔티티에 반영합니다. (updatable = false 라 다시 저장되지 않음)
+        postRepository.incrementViewCount(id);
         post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        eventBus.publish(new PostViewed(PostSnapshot.of(post)));
 
         // KEY POINT: 현재 로그인한 사용자가 '좋아요'를 눌렀는지 확인합니다.
         boolean isLiked = currentUserOpt
                 .map(user -> postLikeRepository.existsByPostAndUser(post, user))
                 .orElse(false);
 
-        Long likeCount = postLikeRepository.countByPost(post);
-        Long commentCount = commentRepository.countByPostId(post.getId());
+        Long likeCount = post.getLikeCount().longValue();
+        Long commentCount = post.getCommentCount().longValue();
 
         return PostResponseDto.builder()
                 .id(post.getId())
@@ -76,20 +142,30 @@ public class PostService {
                 .authorUsername(post.getAuthor().getUsername())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
                 .viewCount(post.getViewCount())
                 .likeCount(likeCount)
                 .commentCount(commentCount)
                 .likedByCurrentUser(isLiked)
+                .attachments(attachmentService.getAttachments(post.getId()))
                 .build();
     }
 
 
+    // 인기 게시글 목록 (메모리 랭킹에서 바로 반환하므로 DB 를 조회하지 않음)
+    public List<PostResponseDto> getTrendingPosts(int size) {
+        return trendingPostRanking.getTopPosts(size);
+    }
+
     @Transactional(readOnly = true)
     public PostResponseDto getPostByIdNoViewCount(Long id) {
-        Post post = postRepository.findByIdWithAuthor(id)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id));
-        Long likeCount = postLikeRepository.countByPost(post);
-        Long commentCount = commentRepository.countByPostId(post.getId());
+        Optional<Post> livePost = postRepository.findByIdWithAuthor(id);
+        if (livePost.isEmpty()) {
+            return findArchivedOrThrow(id);
+        }
+        Post post = livePost.get();
+        Long likeCount = post.getLikeCount().longValue();
+        Long commentCount = post.getCommentCount().longValue();
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -97,31 +173,110 @@ public class PostService {
                 .authorUsername(post.getAuthor().getUsername())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
                 .viewCount(post.getViewCount())
                 .likeCount(likeCount)
                 .commentCount(commentCount)
+                .attachments(attachmentService.getAttachments(post.getId()))
                 .build();
     }
 
+    /**
+     * 게시글 상세와 첫 댓글 페이지를 한 트랜잭션에서 함께 반환합니다. (post.html 의 왕복 2회를 1회로)
+     * 보관된 게시글은 댓글을 제공하지 않으므로 빈 페이지를 돌려줍니다.
+     */
+    @Transactional
+    public PostDetailResponse getPostWithComments(Long id, Optional<User> currentUserOpt, CommentSort sort, int commentPageSize) {
+        PostResponseDto post = getPostById(id, currentUserOpt);
+        CommentPageResponse comments = post.isArchived()
+                ? new CommentPageResponse(List.of(), null, false, post.getCommentCount())
+                : commentService.getCommentsByPostId(id, sort, null, commentPageSize, currentUserOpt.orElse(null));
+        return new PostDetailResponse(post, comments);
+    }
+
+    /**
+     * 여러 게시글을 ID 목록으로 한 번에 조회합니다. 작성자는 JOIN, 좋아요 여부와 첨부는 각각 IN 조회 한 번으로 가져오며,
+     * 결과는 요청한 ID 순서를 따릅니다. (없거나 삭제된 ID 는 빠짐) includeContent 가 false 이면 본문을 읽지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getPostsByIds(List<Long> ids, Optional<User> currentUserOpt, boolean includeContent) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostResponseDto> postsById;
+        if (includeContent) {
+            postsById = postRepository.findAllByIdInWithAuthor(ids).stream()
+                    .collect(Collectors.toMap(Post::getId, post -> PostResponseDto.builder()
+                            .id(post.getId())
+                            .title(post.getTitle())
+                            .content(post.getContent())
+                            .excerpt(post.getExcerpt())
+                            .authorUsername(post.getAuthor().getUsername())
+                            .createdAt(post.getCreatedAt())
+                            .updatedAt(post.getUpdatedAt())
+                            .viewCount(post.getViewCount())
+                            .likeCount(post.getLikeCount().longValue())
+                            .commentCount(post.getCommentCount().longValue())
+                            .build()));
+        } else {
+            postsById = postRepository.findSummariesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(PostListRow::id, PostService::toSummaryResponse));
+        }
+        Set<Long> likedPostIds = currentUserOpt
+                .filter(user -> !postsById.isEmpty())
+                .map(user -> (Set<Long>) new HashSet<>(postLikeRepository.findLikedPostIds(user, postsById.keySet())))
+                .orElse(Collections.emptySet());
+        Map<Long, List<AttachmentDto>> attachmentsByPostId = attachmentService.getAttachmentsByPostIds(postsById.keySet());
+
+        List<PostResponseDto> result = new ArrayList<>(postsById.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            PostResponseDto post = postsById.get(id);
+            if (post != null) {
+                post.setLikedByCurrentUser(likedPostIds.contains(id));
+                post.setAttachments(attachmentsByPostId.getOrDefault(id, List.of()));
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    private PostResponseDto findArchivedOrThrow(Long id) {
+        PostResponseDto post = postArchiveService.findArchivedPost(id)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + id));
+        // 첨부는 게시글 ID 로만 연결되어 있어 보관된 게시글에서도 그대로 조회됩니다.
+        post.setAttachments(attachmentService.getAttachments(id));
+        return post;
+    }
+
     @Transactional
     public PostResponseDto createPost(PostCreateRequest postRequest, User author) {
         Post post = new Post();
         post.setTitle(postRequest.getTitle());
         post.setContent(postRequest.getContent());
+        post.setExcerpt(excerptGenerator.generate(postRequest.getContent()));
         post.setAuthor(author);
         post = postRepository.save(post);
+        userRepository.recordPostCreated(author.getId(), LocalDateTime.now());
+        eventBus.publish(new PostCreated(PostSnapshot.of(post)));
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .excerpt(post.getExcerpt())
                 .authorUsername(author.getUsername())
                 .createdAt(post.getCreatedAt())
+                .version(post.getVersion())
                 .viewCount(post.getViewCount())
                 .likeCount(0L)
                 .commentCount(0L)
                 .build();
     }
 
+    /**
+     * 게시글 수정. 요청에 버전이 있으면 현재 버전과 다를 때 409(현재 버전 포함)로 거절합니다.
+     * 읽은 뒤 커밋 전에 다른 수정이 먼저 커밋되면 낙관적 잠금 충돌로 처음부터 다시 실행되고, 그때 버전 검사에 걸립니다.
+     */
+    @RetryOnOptimisticLock
     @Transactional
     public PostResponseDto updatePost(Long id, PostUpdateRequest postRequest, User currentUser) {
         Post post = postRepository.findByIdWithAuthor(id)
@@ -130,19 +285,27 @@ public class PostService {
         if (!Objects.equals(post.getAuthor().getId(), currentUser.getId())) {
             throw new IllegalArgumentException("게시글 수정 권한이 없습니다.");
         }
+        if (postRequest.getVersion() != null && !postRequest.getVersion().equals(post.getVersion())) {
+            throw new VersionConflictException("다른 곳에서 게시글이 먼저 수정되었습니다. 최신 내용을 확인한 뒤 다시 수정해 주세요.", post.getVersion());
+        }
 
         post.setTitle(postRequest.getTitle());
         post.setContent(postRequest.getContent());
-        post = postRepository.save(post);
-        Long likeCount = postLikeRepository.countByPost(post);
-        Long commentCount = commentRepository.countByPostId(post.getId());
+        post.setExcerpt(excerptGenerator.generate(postRequest.getContent()));
+        // 바로 flush 해서 버전 충돌을 이 메서드 안에서 확인하고, 올라간 버전을 응답에 담습니다.
+        post = postRepository.saveAndFlush(post);
+        userRepository.touchLastActive(currentUser.getId(), LocalDateTime.now());
+        Long likeCount = post.getLikeCount().longValue();
+        Long commentCount = post.getCommentCount().longValue();
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .excerpt(post.getExcerpt())
                 .authorUsername(currentUser.getUsername())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
                 .viewCount(post.getViewCount())
                 .likeCount(likeCount)
                 .commentCount(commentCount)
@@ -157,29 +320,41 @@ public class PostService {
         if (!Objects.equals(post.getAuthor().getId(), currentUser.getId())) {
             throw new IllegalArgumentException("게시글 삭제 권한이 없습니다.");
         }
+        if (post.isDeleted()) {
+            return;
+        }
         postRepository.softDeleteById(id);
+        userRepository.addPostCount(post.getAuthor().getId(), -1);
+        eventBus.publish(new PostDeleted(id, post.getAuthor().getUsername(), false));
     }
 
+    // 같은 좋아요 행을 동시에 지우면 삭제 행 수가 맞지 않아 낙관적 잠금 충돌이 나므로, 처음부터 다시 읽어 토글합니다.
+    @RetryOnOptimisticLock
     @Transactional
     public PostResponseDto togglePostLike(Long postId, User user) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId));
 
         Optional<PostLike> existingLike = postLikeRepository.findByPostAndUser(post, user);
+        boolean liked = existingLike.isEmpty();
 
         if (existingLike.isPresent()) {
             postLikeRepository.delete(existingLike.get());
-            post.setLikeCount(Math.max(0, post.getLikeCount() - 1));
         } else {
             PostLike newLike = new PostLike();
             newLike.setPost(post);
             newLike.setUser(user);
             postLikeRepository.save(newLike);
-            post.setLikeCount(post.getLikeCount() + 1);
         }
-        Post updatedPost = postRepository.save(post);
+        // 좋아요 수는 원자적으로 증감하고, 응답/이벤트에는 증감 직후의 DB 값을 씁니다.
+        postRepository.addLikeCount(postId, liked ? 1 : -1);
+        post.setLikeCount(postRepository.findLikeCount(postId));
+        Post updatedPost = post;
+        userRepository.addLikesReceived(post.getAuthor().getId(), liked ? 1 : -1);
+        userRepository.touchLastActive(user.getId(), LocalDateTime.now());
+        eventBus.publish(new PostLiked(PostSnapshot.of(updatedPost), user.getId(), liked));
 
-        Long commentCount = commentRepository.countByPostId(updatedPost.getId());
+        Long commentCount = updatedPost.getCommentCount().longValue();
         boolean likedByCurrentUser = postLikeRepository.existsByPostAndUser(updatedPost, user);
         return PostResponseDto.builder()
                 .id(updatedPost.getId())
@@ -205,33 +380,68 @@ public class PostService {
             postsPage = postRepository.findAllForAdmin(pageable);
         }
         return postsPage.map(post -> {
-            Long likeCount = postLikeRepository.countByPost(post);
-            Long commentCount = commentRepository.countByPostId(post.getId());
+            Long likeCount = post.getLikeCount().longValue();
+            Long commentCount = post.getCommentCount().longValue();
             return PostResponseDto.fromEntityForAdmin(post, likeCount, commentCount);
         });
     }
 
     @Transactional
     public void softDeletePostByAdmin(Long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId);
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        if (post.isDeleted()) {
+            return; // 이미 삭제된 게시글이면 이벤트를 다시 발행하지 않습니다.
         }
         postRepository.softDeleteById(postId);
+        userRepository.addPostCount(post.getAuthor().getId(), -1);
+        eventBus.publish(new PostDeleted(postId, post.getAuthor().getUsername(), false));
     }
 
     @Transactional
     public void restorePostByAdmin(Long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId);
+        Optional<Post> livePost = postRepository.findById(postId);
+        if (livePost.isPresent()) {
+            if (livePost.get().isDeleted()) {
+                postRepository.restoreById(postId);
+                userRepository.addPostCount(livePost.get().getAuthor().getId(), 1);
+            }
+            eventBus.publish(new PostRestored(postId));
+            return;
+        }
+        // 이미 보관 테이블로 옮겨진 게시글이면 댓글/좋아요와 함께 활성 테이블로 되돌립니다. (복원 시 삭제 표시도 해제됨)
+        PostArchiveService.RestoredPost restored = postArchiveService.restore(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        if (restored.wasDeleted()) {
+            userRepository.addPostCount(restored.authorId(), 1);
         }
-        postRepository.restoreById(postId);
+        eventBus.publish(new PostRestored(postId));
     }
 
     @Transactional
     public void hardDeletePostByAdmin(Long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId);
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            if (!postArchiveService.deleteArchived(postId)) {
+                throw new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId);
+            }
+            attachmentService.deleteByPostId(postId);
+            eventBus.publish(new PostDeleted(postId, null, true));
+            return;
+        }
+        String authorUsername = post.getAuthor().getUsername();
+        // 함께 지워지는 댓글 작성자들과 게시글 작성자의 활동 지표를 줄입니다.
+        // (보관된 게시글의 영구 삭제는 UserActivityReconcileJob 이 맞춥니다.)
+        for (Object[] row : commentRepository.countByAuthorForPost(postId)) {
+            int likes = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            userRepository.addCommentActivity((Long) row[0], -((Number) row[1]).intValue(), -likes);
+        }
+        if (!post.isDeleted()) {
+            userRepository.addPostCount(post.getAuthor().getId(), -1);
         }
-        postRepository.deleteById(postId);
+        userRepository.addLikesReceived(post.getAuthor().getId(), -post.getLikeCount());
+        postRepository.delete(post);
+        attachmentService.deleteByPostId(postId);
+        eventBus.publish(new PostDeleted(postId, authorUsername, true));
     }
 }
\ No newline at end of file
@@ -0,0 +1,269 @@
+package com.example.freeboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부의 고정 크기 썸네일({@link ThumbnailSize})을 백그라운드 작업자 풀에서 만듭니다.
+ *
+ * 업로드 트랜잭션이 커밋된 뒤에만 작업을 넣고, 풀과 대기열 크기가 고정되어 있어 업로드가 몰려도 요청 스레드나 메모리를 잡아먹지 않습니다.
+ * 대기열이 가득 차면 작업을 버리고(freeboard.thumbnails.rejected), 썸네일이 아직 없는 상태로 요청이 오면 원본을 내려주면서 다시 요청합니다.
+ * 큰 이미지는 ImageReader 의 소스 서브샘플링으로 필요한 해상도 근처까지만 디코딩해 메모리와 시간을 줄입니다.
+ */
+@Component
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    // ImageIO 가 기본으로 디코딩할 수 있는 형식만 썸네일을 만듭니다.
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+    private static final float JPEG_QUALITY = 0.85f;
+
+    // 큰 크기부터 만들고, 작은 크기는 방금 만든 큰 썸네일을 다시 줄여 만듭니다.
+    private static final ThumbnailSize[] SIZES_LARGEST_FIRST = Arrays.stream(ThumbnailSize.values())
+            .sorted(Comparator.comparingInt(ThumbnailSize::getMaxDimension).reversed())
+            .toArray(ThumbnailSize[]::new);
+
+    private final AttachmentStorage storage;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    // 대기 중이거나 처리 중인 원본 해시 (같은 이미지를 중복으로 넣지 않도록)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // 읽을 수 없는 형식이거나 max-pixels 를 넘어 썸네일을 만들지 않기로 한 원본 해시 (원본 요청마다 다시 시도하지 않도록)
+    private final Cache<String, Boolean> skipped;
+    // 저장 실패 등 일시적일 수 있는 오류로 실패한 원본 해시. retry-after 가 지나면 다음 원본 요청에서 다시 시도합니다.
+    private final Cache<String, Boolean> recentlyFailed;
+
+    private final Timer processingTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public ThumbnailService(AttachmentStorage storage,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.thumbnails.workers:2}") int workers,
+                            @Value("${app.thumbnails.queue-capacity:200}") int queueCapacity,
+                            @Value("${app.thumbnails.max-pixels:50000000}") long maxPixels,
+                            @Value("${app.thumbnails.max-tracked:10000}") int maxTracked,
+                            @Value("${app.thumbnails.retry-after-seconds:300}") long retryAfterSeconds) {
+        this.storage = storage;
+        this.maxPixels = maxPixels;
+        this.skipped = Caffeine.newBuilder().maximumSize(maxTracked).build();
+        this.recentlyFailed = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(Duration.ofSeconds(retryAfterSeconds))
+                .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.processingTimer = Timer.builder("freeboard.thumbnails.processing")
+                .description("원본 한 장의 썸네일을 모두 만드는 데 걸린 시간")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("freeboard.thumbnails.queue.wait")
+                .description("썸네일 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("freeboard.thumbnails.rejected");
+        this.failedCounter = meterRegistry.counter("freeboard.thumbnails.failed");
+        Gauge.builder("freeboard.thumbnails.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 썸네일 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("freeboard.thumbnails.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("처리 중인 썸네일 작업 수")
+                .register(meterRegistry);
+    }
+
+    public static boolean isSupported(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType);
+    }
+
+    public static Set<String> supportedTypes() {
+        return SUPPORTED_TYPES;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 썸네일 생성을 요청합니다. 롤백되면 요청하지 않습니다.
+     */
+    public void requestAfterCommit(String sha256) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    request(sha256);
+                }
+            });
+        } else {
+            request(sha256);
+        }
+    }
+
+    /**
+     * 썸네일이 하나라도 없으면 작업자 풀에 생성을 요청합니다. 이미 대기 중이거나 대기열이 가득 차 있으면 무시합니다.
+     */
+    public void request(String sha256) {
+        if (skipped.getIfPresent(sha256) != null || recentlyFailed.getIfPresent(sha256) != null
+                || hasAllVariants(sha256) || !pending.add(sha256)) {
+            return;
+        }
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    processingTimer.record(() -> generate(sha256));
+                } finally {
+                    pending.remove(sha256);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(sha256);
+            rejectedCounter.increment();
+        }
+    }
+
+    public Path variantIfReady(String sha256, ThumbnailSize size) {
+        Path variant = storage.resolveVariant(sha256, size);
+        return Files.isRegularFile(variant) ? variant : null;
+    }
+
+    private boolean hasAllVariants(String sha256) {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (!Files.isRegularFile(storage.resolveVariant(sha256, size))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(String sha256) {
+        try {
+            BufferedImage image = decode(storage.resolve(sha256), SIZES_LARGEST_FIRST[0].getMaxDimension());
+            if (image == null) {
+                skipped.put(sha256, Boolean.TRUE);
+                return;
+            }
+            for (ThumbnailSize size : SIZES_LARGEST_FIRST) {
+                image = scaleToFit(image, size.getMaxDimension());
+                BufferedImage thumbnail = image;
+                storage.storeVariant(sha256, size, target -> writeJpeg(thumbnail, target));
+            }
+        } catch (Exception e) {
+            recentlyFailed.put(sha256, Boolean.TRUE);
+            failedCounter.increment();
+            logger.warn("썸네일 생성 실패: {}", sha256, e);
+        }
+    }
+
+    /**
+     * 목표 크기의 두 배 이상이면 서브샘플링해서 읽습니다. 픽셀 수가 max-pixels 를 넘는 이미지는 만들지 않습니다.
+     */
+    private BufferedImage decode(Path file, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                logger.debug("읽을 수 없는 이미지 형식입니다: {}", file.getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    logger.info("이미지가 너무 커서 썸네일을 만들지 않습니다: {} ({}x{})", file.getFileName(), width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(width, height) / (targetDimension * 2);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxDimension 이하가 되도록 비율을 유지해 줄입니다. 투명 영역은 흰 배경으로 채웁니다. (JPEG 저장용 RGB)
+    private static BufferedImage scaleToFit(BufferedImage source, int maxDimension) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
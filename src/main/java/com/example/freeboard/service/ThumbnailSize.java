@@ -0,0 +1,37 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * 이미지 첨부의 고정 썸네일 크기. 긴 변을 maxDimension 픽셀 이하로 줄입니다. (원본이 더 작으면 확대하지 않음)
+ * SMALL 은 목록, MEDIUM 은 게시글 본문 미리보기에 사용합니다.
+ */
+public enum ThumbnailSize {
+    SMALL(200),
+    MEDIUM(800);
+
+    private final int maxDimension;
+
+    ThumbnailSize(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    // 저장 파일 이름 접미사 (예: <sha256>.small.jpg)
+    public String fileSuffix() {
+        return "." + name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    public static ThumbnailSize from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 썸네일 크기입니다: " + value + " (small, medium)");
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.dto.PostResponseDto;
+import com.example.freeboard.event.CommentCreated;
+import com.example.freeboard.event.DomainEvent;
+import com.example.freeboard.event.DomainEventHandler;
+import com.example.freeboard.event.PostDeleted;
+import com.example.freeboard.event.PostLiked;
+import com.example.freeboard.event.PostSnapshot;
+import com.example.freeboard.event.PostViewed;
+import com.example.freeboard.event.UserDeleted;
+import com.example.freeboard.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * 시간 감쇠(time-decay) 점수로 정렬된 인기 게시글 랭킹을 메모리에 유지합니다.
+ *
+ * 점수는 forward decay 방식으로 계산합니다. 이벤트 가중치 w 를 e^((t - landmark) / tau) 배로 키워 더하면
+ * 모든 게시글이 같은 비율로 감쇠하므로, 시간이 흘러도 점수를 다시 계산하지 않고 순서가 유지됩니다.
+ * 그래서 이벤트마다 O(log n) 으로 갱신하고, 상위 N 개는 정렬된 집합의 앞에서 O(N) 으로 꺼냅니다.
+ * 조회/좋아요/댓글/삭제는 도메인 이벤트 버스를 통해 커밋 이후에 반영됩니다.
+ */
+@Component
+public class TrendingPostRanking implements DomainEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingPostRanking.class);
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+    // 지수가 이 값을 넘으면 landmark 를 현재 시각으로 옮겨 double 오버플로를 막습니다.
+    private static final double MAX_EXPONENT = 500.0;
+
+    private static final Comparator<TrendingEntry> RANK_ORDER = Comparator
+            .comparingDouble((TrendingEntry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final double tauMillis;
+    private final int maxSize;
+    private final int seedDays;
+
+    private final Map<Long, TrendingEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<TrendingEntry> ranking = new ConcurrentSkipListSet<>(RANK_ORDER);
+    private volatile long landmarkMillis = System.currentTimeMillis();
+
+    public TrendingPostRanking(PostRepository postRepository,
+                               @Value("${app.trending.half-life-hours:6}") double halfLifeHours,
+                               @Value("${app.trending.max-size:1000}") int maxSize,
+                               @Value("${app.trending.seed-days:7}") int seedDays) {
+        this.postRepository = postRepository;
+        this.tauMillis = halfLifeHours * 3_600_000d / Math.log(2);
+        this.maxSize = maxSize;
+        this.seedDays = seedDays;
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 게시글의 누적 조회/좋아요/댓글 수로 랭킹을 다시 만듭니다.
+     * 과거 이벤트 시각은 알 수 없으므로 모두 게시글 작성 시각에 일어난 것으로 봅니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Object[]> rows = postRepository.findTrendingSeed(LocalDateTime.now().minusDays(seedDays));
+        synchronized (this) {
+            entries.clear();
+            ranking.clear();
+            landmarkMillis = System.currentTimeMillis();
+            for (Object[] row : rows) {
+                Summary summary = new Summary(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (LocalDateTime) row[3],
+                        (Integer) row[4],
+                        ((Integer) row[5]).longValue(),
+                        ((Integer) row[6]).longValue());
+                double weight = summary.viewCount() * VIEW_WEIGHT
+                        + summary.likeCount() * LIKE_WEIGHT
+                        + summary.commentCount() * COMMENT_WEIGHT;
+                long eventMillis = summary.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                put(new TrendingEntry(summary.id(), decayed(weight, eventMillis), summary));
+            }
+            trimToMaxSize();
+        }
+        logger.info("인기 게시글 랭킹을 {}건으로 재구성했습니다.", entries.size());
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof PostViewed viewed) {
+            apply(viewed.post(), VIEW_WEIGHT, summary -> summary.withViewCount(viewed.post().viewCount()));
+        } else if (event instanceof PostLiked liked) {
+            apply(liked.post(), liked.liked() ? LIKE_WEIGHT : -LIKE_WEIGHT,
+                    summary -> summary.withLikeCount(liked.post().likeCount()));
+        } else if (event instanceof CommentCreated created) {
+            apply(created.post(), COMMENT_WEIGHT, summary -> summary.withCommentCount(created.post().commentCount()));
+        } else if (event instanceof PostDeleted deleted) {
+            remove(deleted.postId());
+        } else if (event instanceof UserDeleted deleted) {
+            removeByAuthor(deleted.username());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "trending-ranking";
+    }
+
+    private synchronized void remove(Long postId) {
+        TrendingEntry removed = entries.remove(postId);
+        if (removed != null) {
+            ranking.remove(removed);
+        }
+    }
+
+    // 탈퇴한 사용자의 게시글은 함께 삭제되므로 랭킹에서도 뺍니다.
+    private synchronized void removeByAuthor(String username) {
+        entries.values().removeIf(entry -> {
+            if (username.equals(entry.summary.authorUsername())) {
+                ranking.remove(entry);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 size 개의 게시글 요약을 반환합니다. (DB 를 조회하지 않음)
+     * 항목의 요약은 불변이고 요청마다 새 DTO 로 만들어 주므로, 소비자 스레드의 갱신과 직렬화가 서로 겹치지 않습니다.
+     */
+    public List<PostResponseDto> getTopPosts(int size) {
+        List<PostResponseDto> result = new ArrayList<>(size);
+        Iterator<TrendingEntry> iterator = ranking.iterator();
+        while (result.size() < size && iterator.hasNext()) {
+            result.add(iterator.next().summary.toDto());
+        }
+        return result;
+    }
+
+    private synchronized void apply(PostSnapshot post, double weight, UnaryOperator<Summary> updateSummary) {
+        long now = System.currentTimeMillis();
+        if ((now - landmarkMillis) / tauMillis > MAX_EXPONENT) {
+            rebase(now);
+        }
+        TrendingEntry previous = entries.get(post.postId());
+        Summary summary;
+        double score = 0;
+        if (previous != null) {
+            ranking.remove(previous);
+            summary = previous.summary;
+            score = previous.score;
+        } else {
+            // 랭킹에 아직 없는 게시글이면 이벤트에 담긴 요약으로 새 항목을 만듭니다.
+            summary = new Summary(post.postId(), post.title(), post.authorUsername(), post.createdAt(),
+                    post.viewCount(), post.likeCount(), post.commentCount());
+        }
+        put(new TrendingEntry(post.postId(), Math.max(0, score + decayed(weight, now)), updateSummary.apply(summary)));
+        trimToMaxSize();
+    }
+
+    // landmark 를 옮기면 모든 점수가 같은 배율로 줄어들 뿐 순서는 그대로입니다.
+    private void rebase(long newLandmarkMillis) {
+        double factor = Math.exp(-(newLandmarkMillis - landmarkMillis) / tauMillis);
+        List<TrendingEntry> rescaled = new ArrayList<>(entries.size());
+        for (TrendingEntry entry : entries.values()) {
+            rescaled.add(new TrendingEntry(entry.postId, entry.score * factor, entry.summary));
+        }
+        entries.clear();
+        ranking.clear();
+        landmarkMillis = newLandmarkMillis;
+        rescaled.forEach(this::put);
+    }
+
+    private double decayed(double weight, long eventMillis) {
+        return weight * Math.exp((eventMillis - landmarkMillis) / tauMillis);
+    }
+
+    private void put(TrendingEntry entry) {
+        entries.put(entry.postId, entry);
+        ranking.add(entry);
+    }
+
+    private void trimToMaxSize() {
+        while (entries.size() > maxSize) {
+            TrendingEntry lowest = ranking.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            entries.remove(lowest.postId);
+        }
+    }
+
+    // 랭킹에 보관하는 게시글 요약 (불변, 갱신 시 새 값으로 교체)
+    private record Summary(Long id, String title, String authorUsername, LocalDateTime createdAt,
+                           Integer viewCount, Long likeCount, Long commentCount) {
+
+        Summary withViewCount(Integer value) {
+            return new Summary(id, title, authorUsername, createdAt, value, likeCount, commentCount);
+        }
+
+        Summary withLikeCount(Long value) {
+            return new Summary(id, title, authorUsername, createdAt, viewCount, value, commentCount);
+        }
+
+        Summary withCommentCount(Long value) {
+            return new Summary(id, title, authorUsername, createdAt, viewCount, likeCount, value);
+        }
+
+        PostResponseDto toDto() {
+            return PostResponseDto.builder()
+                    .id(id)
+                    .title(title)
+                    .authorUsername(authorUsername)
+                    .createdAt(createdAt)
+                    .viewCount(viewCount)
+                    .likeCount(likeCount)
+                    .commentCount(commentCount)
+                    .build();
+        }
+    }
+
+    private static final class TrendingEntry {
+        private final Long postId;
+        private final double score;
+        private final Summary summary;
+
+        private TrendingEntry(Long postId, double score, Summary summary) {
+            this.postId = postId;
+            this.score = score;
+            this.summary = summary;
+        }
+    }
+}
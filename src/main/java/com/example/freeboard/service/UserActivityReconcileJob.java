@@ -0,0 +1,68 @@
+package com.example.freeboard.service;
+
+import com.example.freeboard.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 사용자 활동 지표(users.post_count/comment_count/likes_received)를 원본 테이블에서 다시 계산하는 야간 작업입니다.
+ *
+ * 글/댓글/좋아요 처리 경로는 카운터를 건별로 증감하지만, 사용자 탈퇴나 보관된 게시글의 영구 삭제처럼
+ * 다른 사용자의 지표까지 바뀌는 대량 삭제는 따라가지 않으므로 여기서 실제 값에 맞춥니다.
+ * 사용자 id 순서로 chunk-size 명씩 청크마다 트랜잭션을 따로 커밋해 잠금 시간을 짧게 유지합니다.
+ */
+@Component
+public class UserActivityReconcileJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserActivityReconcileJob.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public UserActivityReconcileJob(UserRepository userRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.user-activity.reconcile.enabled:true}") boolean enabled,
+                                    @Value("${app.user-activity.reconcile.chunk-size:200}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.user-activity.reconcile.cron:0 30 4 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = userRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.recountActivity(ids));
+            } catch (Exception e) {
+                // 실패한 청크는 다음 실행에서 다시 계산합니다.
+                logger.error("사용자 활동 지표 재계산 실패 (시작 id {})", ids.get(0), e);
+            }
+            total += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        logger.info("사용자 {}명의 활동 지표를 다시 계산했습니다.", total);
+    }
+}
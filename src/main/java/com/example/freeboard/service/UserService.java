@@ -1,20 +1,33 @@
 // C:\Users\admin\Desktop\freeboard\freeboard\src\main\java\com\example\freeboard\service\UserService.java
 package com.example.freeboard.service;
 
+import com.example.freeboard.config.CacheConfig;
+import com.example.freeboard.dto.AdminUserDto;
 import com.example.freeboard.dto.RegisterRequest;
 import com.example.freeboard.dto.UserDto;
 import com.example.freeboard.entity.User;
 import com.example.freeboard.entity.UserRole;
+import com.example.freeboard.event.DomainEventBus;
+import com.example.freeboard.event.UserDeleted;
+import com.example.freeboard.event.UserRegistered;
+import com.example.freeboard.exception.BadRequestException;
 import com.example.freeboard.exception.ResourceNotFoundException;
 import com.example.freeboard.repository.*;
+import com.example.freeboard.security.TokenRevocationRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -26,16 +39,27 @@ public class UserService {
     private final CommentRepository commentRepository;
     private final PostLikeRepository postLikeRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final DomainEventBus eventBus;
+    // CustomUserDetailsService 의 사용자 캐시 (트랜잭션 안의 evict 는 커밋 후 적용되고 다른 노드에도 전파됨)
+    private final Cache userCache;
+    private final TokenRevocationRegistry revocationRegistry;
 
+    // 관리자 사용자 목록에서 정렬할 수 있는 속성 (모두 인덱스가 있음)
+    private static final List<String> ADMIN_SORTABLE_PROPERTIES =
+            List.of("id", "username", "postCount", "commentCount", "likesReceived", "lastActiveAt");
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PostRepository postRepository, CommentRepository commentRepository, PostLikeRepository postLikeRepository, CommentLikeRepository commentLikeRepository) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PostRepository postRepository, CommentRepository commentRepository, PostLikeRepository postLikeRepository, CommentLikeRepository commentLikeRepository,
+                       DomainEventBus eventBus, CacheManager cacheManager, TokenRevocationRegistry revocationRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.postLikeRepository = postLikeRepository;
         this.commentLikeRepository = commentLikeRepository;
+        this.eventBus = eventBus;
+        this.userCache = cacheManager.getCache(CacheConfig.USERS);
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Transactional
@@ -49,7 +73,9 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
         user.setCreatedAt(LocalDateTime.now());
         user.setRole(UserRole.USER);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventBus.publish(new UserRegistered(savedUser.getId(), savedUser.getUsername()));
+        return savedUser;
     }
 
     @Transactional(readOnly = true)
@@ -57,10 +83,29 @@ public class UserService {
         return userRepository.findByUsername(username);
     }
 
+    /**
+     * 관리자 사용자 목록. 활동 지표는 users 테이블의 카운터 컬럼이라 한 번의 페이지 쿼리로 함께 읽힙니다.
+     * 정렬은 인덱스가 있는 컬럼만 허용하고, 같은 값끼리는 id 순으로 정렬해 (컬럼, id) 인덱스를 그대로 따라가게 합니다.
+     */
     @Transactional(readOnly = true)
-    public Page<UserDto> getAllUsers(Pageable pageable) {
-        Page<User> usersPage = userRepository.findAll(pageable);
-        return usersPage.map(UserDto::fromEntity);
+    public Page<AdminUserDto> getAllUsers(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        Sort.Direction tieBreak = Sort.Direction.ASC;
+        for (Sort.Order order : pageable.getSort()) {
+            if (!ADMIN_SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("정렬할 수 없는 항목입니다: " + order.getProperty()
+                        + " (가능한 항목: " + String.join(", ", ADMIN_SORTABLE_PROPERTIES) + ")");
+            }
+            if (orders.isEmpty()) {
+                tieBreak = order.getDirection();
+            }
+            orders.add(order);
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(new Sort.Order(tieBreak, "id"));
+        }
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+        return userRepository.findAll(sorted).map(AdminUserDto::fromEntity);
     }
 
     @Transactional
@@ -69,19 +114,35 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. (ID: " + userId + ")"));
 
         // 1. 사용자가 누른 '좋아요' 기록을 먼저 모두 삭제합니다.
+        List<Long> likedPostIds = postLikeRepository.findPostIdsByUser(user);
         postLikeRepository.deleteByUser(user);
+        if (!likedPostIds.isEmpty()) {
+            // 좋아요 수 카운터를 실제 값으로 맞춥니다.
+            postRepository.recountLikes(likedPostIds);
+        }
         commentLikeRepository.deleteByUser(user);
 
         // 2. 사용자가 작성한 댓글을 모두 삭제합니다.
         // (이 댓글에 달린 '좋아요'는 Comment 엔티티의 cascade 설정으로 자동 삭제됩니다.)
+        List<Long> commentedPostIds = commentRepository.findPostIdsByAuthor(user);
         commentRepository.deleteByAuthor(user);
+        if (!commentedPostIds.isEmpty()) {
+            // 다른 사용자의 게시글에 남은 댓글 수 카운터를 실제 값으로 맞춥니다.
+            postRepository.recountComments(commentedPostIds);
+        }
 
         // 3. 사용자가 작성한 게시글을 모두 삭제합니다.
         // (이 게시글에 달린 댓글, '좋아요'는 Post 엔티티의 cascade 설정으로 자동 삭제됩니다.)
         postRepository.deleteByAuthor(user);
 
+        // 다른 사용자들의 활동 지표(받은 좋아요, 이 사용자의 게시글에 단 댓글 수)는 UserActivityReconcileJob 이 맞춥니다.
+
         // 4. 마지막으로 사용자를 삭제합니다.
         userRepository.delete(user);
+        userCache.evict(user.getUsername());
+        // 같은 이름으로 다시 가입한 사용자에게 예전 토큰이 통하지 않도록 함
+        revocationRegistry.revokeAllForUser(user.getUsername());
+        eventBus.publish(new UserDeleted(user.getId(), user.getUsername()));
     }
 
     @Transactional
@@ -98,6 +159,19 @@ public class UserService {
 
         user.setRole(newRole);
         User updatedUser = userRepository.save(user);
+        userCache.evict(updatedUser.getUsername());
+        // 예전 역할로 로그인한 화면/토큰을 계속 쓰지 않도록 다시 로그인하게 함
+        revocationRegistry.revokeAllForUser(updatedUser.getUsername());
         return UserDto.fromEntity(updatedUser);
     }
+
+    /**
+     * 사용자에게 지금까지 발급된 모든 토큰을 무효화합니다. (관리자 강제 로그아웃)
+     */
+    @Transactional(readOnly = true)
+    public void revokeTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. (ID: " + userId + ")"));
+        revocationRegistry.revokeAllForUser(user.getUsername());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+-- 기준 스키마: ddl-auto=create 가 만들던 테이블/제약 조건과 같은 구조 (엔티티 매핑과 일치해야 ddl-auto=validate 를 통과)
+-- 외래 키의 ON DELETE CASCADE 는 엔티티의 @OnDelete(CASCADE) 와 대응합니다.
+
+CREATE TABLE users (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    username       VARCHAR(255) NOT NULL,
+    password       VARCHAR(255) NOT NULL,
+    role           ENUM ('USER','ADMIN') NOT NULL,
+    created_at     DATETIME(6),
+    post_count     INT          NOT NULL DEFAULT 0,
+    comment_count  INT          NOT NULL DEFAULT 0,
+    likes_received INT          NOT NULL DEFAULT 0,
+    last_active_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    INDEX idx_users_post_count (post_count, id),
+    INDEX idx_users_comment_count (comment_count, id),
+    INDEX idx_users_likes_received (likes_received, id),
+    INDEX idx_users_last_active_at (last_active_at, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255) NOT NULL,
+    content       TEXT         NOT NULL,
+    excerpt       VARCHAR(300),
+    user_id       BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    version       BIGINT,
+    view_count    INT DEFAULT 0,
+    like_count    INT DEFAULT 0,
+    comment_count INT DEFAULT 0,
+    deleted       BIT(1)       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comment (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id     BIGINT      NOT NULL,
+    content     TEXT        NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6),
+    version     BIGINT,
+    like_count  INT DEFAULT 0,
+    parent_id   BIGINT,
+    path        VARCHAR(90) NOT NULL,
+    depth       INT DEFAULT 0,
+    reply_count INT DEFAULT 0,
+    PRIMARY KEY (id),
+    INDEX idx_comment_post_path (post_id, path),
+    INDEX idx_comment_post_depth_created (post_id, depth, created_at, id),
+    INDEX idx_comment_post_depth_likes (post_id, depth, like_count, id),
+    CONSTRAINT fk_comment_post FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_likes (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comment_likes (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    comment_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_comment_likes_comment_user UNIQUE (comment_id, user_id),
+    CONSTRAINT fk_comment_likes_comment FOREIGN KEY (comment_id) REFERENCES comment (id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_likes_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comment_trigrams (
+    trigram    BIGINT NOT NULL,
+    comment_id BIGINT NOT NULL,
+    PRIMARY KEY (comment_id, trigram),
+    INDEX idx_comment_trigram_lookup (trigram, comment_id),
+    CONSTRAINT fk_comment_trigrams_comment FOREIGN KEY (comment_id) REFERENCES comment (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- post_id 는 외래 키 없이 보관/복원 시에도 그대로 유지되는 값 (Attachment 참고)
+CREATE TABLE attachments (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id      BIGINT       NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    sha256       VARCHAR(64)  NOT NULL,
+    filename     VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size         BIGINT       NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_attachment_post (post_id, id),
+    INDEX idx_attachment_sha256 (sha256),
+    CONSTRAINT fk_attachments_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 보관 테이블: id 는 활성 테이블의 값을 그대로 옮겨 씁니다.
+CREATE TABLE archived_posts (
+    id            BIGINT       NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    content       TEXT         NOT NULL,
+    excerpt       VARCHAR(300),
+    user_id       BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    version       BIGINT,
+    view_count    INT,
+    like_count    INT,
+    comment_count INT,
+    deleted       BIT(1)       NOT NULL,
+    archived_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_archived_posts_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE archived_comments (
+    id          BIGINT      NOT NULL,
+    post_id     BIGINT      NOT NULL,
+    content     TEXT        NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6),
+    version     BIGINT,
+    like_count  INT,
+    parent_id   BIGINT,
+    path        VARCHAR(90) NOT NULL,
+    depth       INT,
+    reply_count INT,
+    PRIMARY KEY (id),
+    INDEX idx_archived_comment_post_path (post_id, path),
+    CONSTRAINT fk_archived_comments_post FOREIGN KEY (post_id) REFERENCES archived_posts (id) ON DELETE CASCADE,
+    CONSTRAINT fk_archived_comments_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE archived_post_likes (
+    id         BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_archived_post_likes_post FOREIGN KEY (post_id) REFERENCES archived_posts (id) ON DELETE CASCADE,
+    CONSTRAINT fk_archived_post_likes_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE archived_comment_likes (
+    id         BIGINT NOT NULL,
+    comment_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_archived_comment_likes_comment FOREIGN KEY (comment_id) REFERENCES archived_comments (id) ON DELETE CASCADE,
+    CONSTRAINT fk_archived_comment_likes_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
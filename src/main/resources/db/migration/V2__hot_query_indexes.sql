@@ -0,0 +1,25 @@
+-- 자주 실행되는 저장소 쿼리용 복합/커버링 인덱스. 인덱스 이름은 엔티티의 @Table(indexes) 와 같습니다.
+-- (InnoDB 보조 인덱스에는 기본 키(id)가 뒤에 붙으므로 id 로 끝나는 정렬/커서 조건도 인덱스 순서로 처리됩니다.)
+
+-- post: 활성 목록(deleted = false ORDER BY created_at DESC), 활성 글 수, 인기 랭킹 초기화(created_at >= ?)
+-- 일별 작성 수(created_at >= ?, deleted 조건 없음)는 deleted 값이 둘뿐이라 skip scan 으로 같은 인덱스를 씁니다.
+CREATE INDEX idx_post_deleted_created ON post (deleted, created_at, id);
+-- post: 작성자별 글 (탈퇴 시 deleteByAuthor, 작성자별 활성 글 수/활동 지표 재계산). fk_post_user 의 자동 인덱스를 대신합니다.
+CREATE INDEX idx_post_user_deleted ON post (user_id, deleted);
+
+-- comment: 관리자 작성자 필터 목록(user_id = ? ORDER BY id DESC), 탈퇴 시 deleteByAuthor/findPostIdsByAuthor, 활동 지표 재계산
+CREATE INDEX idx_comment_user ON comment (user_id, id);
+
+-- post_likes: existsByPostAndUser / findByPostAndUser / countByPost 는 uk_post_likes_post_user (post_id, user_id) 가 커버합니다.
+-- 사용자 기준 조회(findLikedPostIds, findPostIdsByUser, deleteByUser)
+CREATE INDEX idx_post_likes_user ON post_likes (user_id, post_id);
+-- 최근 좋아요 집계(countLikesSince: created_at >= ? GROUP BY post)
+CREATE INDEX idx_post_likes_created ON post_likes (created_at, post_id);
+
+-- comment_likes: existsByCommentAndUser / findByCommentAndUser 는 uk_comment_likes_comment_user 가 커버합니다.
+-- 사용자 기준 조회(findLikedCommentIds, deleteByUser)
+CREATE INDEX idx_comment_likes_user ON comment_likes (user_id, comment_id);
+
+-- 보관 테이블: 작성자별 활성 글 수 / 활동 지표 재계산
+CREATE INDEX idx_archived_post_user_deleted ON archived_posts (user_id, deleted);
+CREATE INDEX idx_archived_comment_user ON archived_comments (user_id);
@@ -44,7 +44,11 @@ function getLoggedInUser() {
  * 사용자를 로그아웃 처리합니다.
  * 로컬 스토리지에서 사용자 정보를 삭제하고 메인 페이지로 이동합니다.
  */
-function handleLogout() {
+async function handleLogout() {
+    // 서버에서도 토큰을 무효화합니다. (실패해도 로컬 로그아웃은 진행)
+    if (getToken()) {
+        await fetch(`${API_BASE_URL}/api/auth/logout`, { method: 'POST', headers: getAuthHeaders() }).catch(() => {});
+    }
     localStorage.removeItem('jwt');
     localStorage.removeItem('username');
     localStorage.removeItem('role');
@@ -176,17 +180,32 @@ async function fetchPosts(page = 0, search = '') {
         pageData.content.forEach(post => {
             const row = tableBody.insertRow();
             row.innerHTML = `
-                <td><a href="/post.html?id=${post.id}">${post.title}</a></td>
+                <td>${post.thumbnailUrl ? `<img class="post-thumbnail" src="${post.thumbnailUrl}" alt="" loading="lazy">` : ''}<a href="/post.html?id=${post.id}">${post.title}</a><div class="post-excerpt"></div></td>
                 <td>${post.authorUsername}</td>
                 <td>${new Date(post.createdAt).toLocaleDateString()}</td>
-                <td>${post.viewCount}</td>
-                <td>${post.likeCount}</td>
+                <td id="post-views-${post.id}">${post.viewCount}</td>
+                <td id="post-likes-${post.id}">${post.likeCount}</td>
             `;
+            // 검색 결과는 서버가 이스케이프하고 검색어를 <mark> 로 감싼 스니펫을, 그 외에는 발췌문을 표시
+            const excerpt = row.querySelector('.post-excerpt');
+            if (post.snippet) {
+                excerpt.innerHTML = post.snippet;
+            } else {
+                excerpt.textContent = post.excerpt || '';
+            }
         });
 
         // 페이지네이션 버튼 렌더링
         renderPagination(pagination, pageData, fetchPosts, search);
 
+        // 현재 페이지에 보이는 게시글들의 조회수/좋아요를 실시간으로 갱신
+        subscribePostCounters(pageData.content.map(post => post.id), counters => {
+            const views = document.getElementById(`post-views-${counters.postId}`);
+            const likes = document.getElementById(`post-likes-${counters.postId}`);
+            if (views && counters.viewCount !== undefined) views.textContent = counters.viewCount;
+            if (likes && counters.likeCount !== undefined) likes.textContent = counters.likeCount;
+        });
+
     } catch (error) {
         tableBody.innerHTML = `<tr><td colspan="5">${error.message}</td></tr>`;
     }
@@ -202,23 +221,27 @@ function searchPosts() {
 }
 
 /**
- * 특정 게시글의 상세 정보를 가져와 화면에 표시합니다.
+ * 특정 게시글의 상세 정보와 첫 댓글 페이지를 한 번의 요청(/full)으로 가져와 화면에 표시합니다.
  * @param {number} postId - 조회할 게시글의 ID
  */
 async function fetchPostDetails(postId) {
     const container = document.getElementById('post-detail-container');
     try {
-        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}`, {
+        const sortSelect = document.getElementById('comment-sort');
+        const sort = sortSelect ? sortSelect.value : 'oldest';
+        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/full?sort=${sort}&size=20`, {
             headers: getAuthHeaders() // 좋아요 상태 확인을 위해 인증 헤더 전송
         });
         if (!response.ok) throw new Error('게시글 정보를 찾을 수 없습니다.');
 
-        const post = await response.json();
+        const detail = await response.json();
+        const post = detail.post;
         const user = getLoggedInUser();
+        showComments(postId, detail.comments);
 
         let actionButtons = '';
         // 현재 로그인한 사용자가 게시글 작성자일 경우 수정/삭제 버튼을 보여줌
-        if (user && user.username === post.authorUsername) {
+        if (user && user.username === post.authorUsername && !post.archived) {
             actionButtons = `
                 <a href="/edit.html?id=${post.id}" class="btn">수정</a>
                 <button onclick="handleDeletePost(${post.id})">삭제</button>
@@ -230,22 +253,129 @@ async function fetchPostDetails(postId) {
             <div class="post-meta">
                 <span>작성자: ${post.authorUsername}</span> | 
                 <span>작성일: ${new Date(post.createdAt).toLocaleString()}</span> | 
-                <span>조회수: ${post.viewCount}</span>
+                <span>조회수: <span id="post-view-count">${post.viewCount}</span></span>
             </div>
+            ${post.archived ? '<p class="archived-notice">보관된 게시글입니다. (읽기 전용)</p>' : ''}
             <div class="post-content">${post.content.replace(/\n/g, '<br>')}</div>
+            <div id="post-attachments"></div>
             <div class="post-actions">
-                 <button id="post-like-btn" onclick="togglePostLike(${post.id})">
+                 <button id="post-like-btn" onclick="togglePostLike(${post.id})" ${post.archived ? 'disabled' : ''}>
                     👍 좋아요 (${post.likeCount})
                 </button>
                 ${actionButtons}
             </div>
         `;
+
+        renderAttachments(post, user && user.username === post.authorUsername && !post.archived);
+
+        // 다른 사용자의 조회/좋아요로 바뀐 카운터를 실시간으로 반영
+        subscribePostCounters([post.id], counters => {
+            if (counters.viewCount !== undefined) {
+                document.getElementById('post-view-count').textContent = counters.viewCount;
+            }
+            if (counters.likeCount !== undefined) {
+                document.getElementById('post-like-btn').textContent = `👍 좋아요 (${counters.likeCount})`;
+            }
+            if (counters.commentLikeCounts) {
+                Object.entries(counters.commentLikeCounts).forEach(([commentId, likeCount]) => {
+                    const likeButton = document.getElementById(`comment-like-btn-${commentId}`);
+                    if (likeButton) likeButton.textContent = `👍 좋아요 (${likeCount})`;
+                });
+            }
+        });
     } catch (error) {
         container.innerHTML = `<p>${error.message}</p>`;
     }
 }
 
 
+/**
+ * 게시글 첨부 파일 목록을 표시합니다. 이미지는 중간 크기 썸네일(previewUrl)로 보여 주고 원본 링크를 함께 표시합니다.
+ * @param {object} post - 게시글 (attachments 포함)
+ * @param {boolean} canEdit - 작성자 여부 (업로드/삭제 가능)
+ */
+function renderAttachments(post, canEdit) {
+    const container = document.getElementById('post-attachments');
+    if (!container) return;
+    container.innerHTML = '';
+    const attachments = post.attachments || [];
+
+    attachments.forEach(attachment => {
+        const item = document.createElement('div');
+        item.className = 'attachment-item';
+        if (attachment.contentType.startsWith('image/') && !attachment.contentType.startsWith('image/svg')) {
+            const image = document.createElement('img');
+            image.src = attachment.previewUrl || attachment.url;
+            image.alt = attachment.filename;
+            image.loading = 'lazy';
+            item.appendChild(image);
+        }
+        const link = document.createElement('a');
+        link.href = attachment.url;
+        link.textContent = `${attachment.filename} (${formatFileSize(attachment.size)})`;
+        item.appendChild(link);
+        if (canEdit) {
+            const deleteButton = document.createElement('button');
+            deleteButton.textContent = '삭제';
+            deleteButton.onclick = () => handleDeleteAttachment(post.id, attachment.id);
+            item.appendChild(deleteButton);
+        }
+        container.appendChild(item);
+    });
+
+    if (canEdit) {
+        const form = document.createElement('form');
+        form.className = 'attachment-form';
+        form.innerHTML = `
+            <input type="file" name="files" multiple required>
+            <button type="submit">첨부 파일 올리기</button>
+        `;
+        form.onsubmit = event => handleUploadAttachments(event, post.id);
+        container.appendChild(form);
+    }
+}
+
+function formatFileSize(bytes) {
+    if (bytes < 1024) return `${bytes} B`;
+    if (bytes < 1024 * 1024) return `${(bytes / 1024).toFixed(1)} KB`;
+    return `${(bytes / (1024 * 1024)).toFixed(1)} MB`;
+}
+
+/**
+ * 선택한 파일들을 multipart 로 업로드합니다. (Content-Type 은 브라우저가 boundary 와 함께 설정)
+ */
+async function handleUploadAttachments(event, postId) {
+    event.preventDefault();
+    const formData = new FormData(event.target);
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/attachments`, {
+            method: 'POST',
+            headers: { 'Authorization': `Bearer ${getToken()}` },
+            body: formData
+        });
+        if (!response.ok) {
+            const error = await response.json().catch(() => ({}));
+            throw new Error(error.message || '첨부 파일을 올리지 못했습니다.');
+        }
+        fetchPostDetails(postId);
+    } catch (error) {
+        alert(error.message);
+    }
+}
+
+async function handleDeleteAttachment(postId, attachmentId) {
+    if (!confirm('첨부 파일을 삭제하시겠습니까?')) return;
+    const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/attachments/${attachmentId}`, {
+        method: 'DELETE',
+        headers: getAuthHeaders()
+    });
+    if (response.ok) {
+        fetchPostDetails(postId);
+    } else {
+        alert('첨부 파일을 삭제하지 못했습니다.');
+    }
+}
+
 /**
  * 새 게시글 작성 폼을 처리합니다.
  * @param {Event} event - 폼 제출 이벤트
@@ -264,6 +394,20 @@ async function handleCreatePost(event) {
         if (!response.ok) throw new Error('글 작성에 실패했습니다.');
 
         const newPost = await response.json();
+
+        // 선택한 이미지는 글이 만들어진 뒤 첨부로 올립니다. (썸네일은 서버가 백그라운드에서 만듦)
+        const imageInput = document.getElementById('images');
+        if (imageInput && imageInput.files.length > 0) {
+            const formData = new FormData();
+            Array.from(imageInput.files).forEach(file => formData.append('files', file));
+            const uploadResponse = await fetch(`${API_BASE_URL}/api/posts/${newPost.id}/attachments`, {
+                method: 'POST',
+                headers: { 'Authorization': `Bearer ${getToken()}` },
+                body: formData
+            });
+            if (!uploadResponse.ok) alert('글은 작성되었지만 이미지를 올리지 못했습니다.');
+        }
+
         alert('글이 성공적으로 작성되었습니다.');
         window.location.href = `/post.html?id=${newPost.id}`; // 작성된 글로 이동
 
@@ -286,6 +430,7 @@ async function loadPostForEdit(postId) {
         const post = await response.json();
         document.getElementById('title').value = post.title;
         document.getElementById('content').value = post.content;
+        document.getElementById('version').value = post.version != null ? post.version : '';
 
     } catch (error) {
         alert(error.message);
@@ -303,13 +448,23 @@ async function handleEditPost(event, postId) {
     event.preventDefault();
     const title = document.getElementById('title').value;
     const content = document.getElementById('content').value;
+    const versionValue = document.getElementById('version').value;
+    const version = versionValue === '' ? null : Number(versionValue);
 
     try {
         const response = await fetch(`${API_BASE_URL}/api/posts/${postId}`, {
             method: 'PUT',
             headers: getAuthHeaders(),
-            body: JSON.stringify({ title, content })
+            body: JSON.stringify({ title, content, version })
         });
+        if (response.status === 409) {
+            // 다른 곳에서 먼저 수정됨: 입력한 내용은 그대로 두고 다음 저장이 최신 버전 기준이 되도록 버전만 갱신
+            const conflict = await response.json();
+            if (conflict.currentVersion != null) {
+                document.getElementById('version').value = conflict.currentVersion;
+            }
+            throw new Error(`${conflict.message}\n(지금 다시 저장하면 최신 내용을 덮어씁니다.)`);
+        }
         if (!response.ok) throw new Error('글 수정에 실패했습니다.');
 
         alert('글이 성공적으로 수정되었습니다.');
@@ -384,81 +539,224 @@ async function togglePostLike(postId) {
 // =================================================================
 
 /**
- * 특정 게시글의 댓글 목록을 가져와 화면에 표시합니다.
+ * 특정 게시글의 댓글 첫 페이지를 다시 가져와 화면에 표시합니다. (정렬은 #comment-sort 선택값)
  * @param {number} postId - 댓글을 조회할 게시글의 ID
  */
 async function fetchComments(postId) {
-    const commentsList = document.getElementById('comments-list');
+    const page = await requestCommentPage(postId, null);
+    if (page) showComments(postId, page);
+}
+
+/**
+ * 댓글 목록을 첫 페이지로 새로 그리고, 로그인 여부에 따라 댓글 작성 폼을 표시합니다.
+ * @param {number} postId - 게시글 ID
+ * @param {object} page - 서버에서 받은 댓글 페이지 (comments, nextCursor, hasNext, totalCount)
+ */
+function showComments(postId, page) {
     const commentFormContainer = document.getElementById('comment-form-container');
     const user = getLoggedInUser();
 
+    document.getElementById('comments-list').innerHTML = '';
+    appendCommentPage(postId, page);
+
+    // 로그인한 경우 댓글 작성 폼을 추가
+    if (user) {
+        commentFormContainer.innerHTML = `
+            <h4>댓글 작성</h4>
+            <form id="comment-form">
+                <textarea id="comment-content" rows="3" required></textarea>
+                <button type="submit">등록</button>
+            </form>
+        `;
+        document.getElementById('comment-form').addEventListener('submit', (e) => handleCreateComment(e, postId));
+    } else {
+        // 로그아웃 상태일 경우 로그인 안내 메시지 표시
+        commentFormContainer.innerHTML = `<p><a href="/login.html">로그인</a> 후 댓글을 작성할 수 있습니다.</p>`;
+    }
+}
+
+/**
+ * 다음 댓글 페이지를 불러와 목록 끝에 붙입니다.
+ * @param {number} postId - 게시글 ID
+ * @param {string} cursor - 이전 응답의 nextCursor
+ */
+async function loadCommentPage(postId, cursor) {
+    const page = await requestCommentPage(postId, cursor);
+    if (page) appendCommentPage(postId, page);
+}
+
+/**
+ * 댓글 한 페이지를 요청합니다. 실패하면 목록 영역에 오류를 표시하고 null 을 반환합니다.
+ * @param {number} postId - 게시글 ID
+ * @param {string|null} cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+ */
+async function requestCommentPage(postId, cursor) {
+    const sortSelect = document.getElementById('comment-sort');
+    const sort = sortSelect ? sortSelect.value : 'oldest';
+    const params = new URLSearchParams({ sort, size: 20 });
+    if (cursor) params.set('cursor', cursor);
+
     try {
-        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/comments`, {
+        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/comments?${params}`, {
             headers: getAuthHeaders() // 좋아요 상태 확인을 위해 인증 헤더 전송
         });
         if (!response.ok) throw new Error('댓글을 불러올 수 없습니다.');
+        return await response.json();
+    } catch (error) {
+        document.getElementById('comments-list').innerHTML = `<p>${error.message}</p>`;
+        return null;
+    }
+}
 
-        const comments = await response.json();
-        commentsList.innerHTML = '';
-        comments.forEach(comment => {
-            const commentDiv = document.createElement('div');
-            commentDiv.className = 'comment';
-            commentDiv.id = `comment-${comment.id}`;
-
-            let actionButtons = '';
-            // 현재 로그인 사용자가 댓글 작성자일 경우 수정/삭제 버튼 표시
-            if (user && user.username === comment.authorUsername) {
-                actionButtons = `
-                    <button onclick="showCommentEditForm(${comment.id})">수정</button>
-                    <button onclick="handleDeleteComment(${postId}, ${comment.id})">삭제</button>
-                `;
-            }
+/**
+ * 받은 댓글 페이지를 목록 끝에 그리고, 다음 페이지가 있으면 '더 보기' 버튼을 표시합니다.
+ * @param {number} postId - 게시글 ID
+ * @param {object} page - 서버에서 받은 댓글 페이지
+ */
+function appendCommentPage(postId, page) {
+    const commentsList = document.getElementById('comments-list');
+    const user = getLoggedInUser();
 
-            commentDiv.innerHTML = `
-                <div class="comment-meta">
-                    <strong>${comment.authorUsername}</strong> - 
-                    <span>${new Date(comment.createdAt).toLocaleString()}</span>
-                </div>
-
-                <!-- 댓글 보기 모드 -->
-                <div id="comment-view-${comment.id}">
-                    <p>${comment.content.replace(/\n/g, '<br>')}</p>
-                    <div class="comment-actions">
-                         <button id="comment-like-btn-${comment.id}" onclick="toggleCommentLike(${postId}, ${comment.id})">
-                            👍 좋아요 (${comment.likeCount})
-                        </button>
-                        ${actionButtons}
-                    </div>
-                </div>
-
-                <!-- 댓글 수정 모드 (초기에는 숨김) -->
-                <div id="comment-edit-${comment.id}" style="display: none;">
-                    <textarea class="comment-edit-textarea" rows="3">${comment.content}</textarea>
-                    <div class="comment-edit-actions">
-                        <button onclick="handleEditComment(${postId}, ${comment.id})">저장</button>
-                        <button onclick="hideCommentEditForm(${comment.id})">취소</button>
-                    </div>
-                </div>
-            `;
-            commentsList.appendChild(commentDiv);
+    const countSpan = document.getElementById('comment-total-count');
+    if (countSpan) countSpan.textContent = `(${page.totalCount})`;
+
+    document.getElementById('comments-more-btn')?.remove();
+    page.comments.forEach(comment => commentsList.appendChild(renderComment(comment, postId, user)));
+
+    if (page.hasNext) {
+        const moreButton = document.createElement('button');
+        moreButton.id = 'comments-more-btn';
+        moreButton.textContent = '댓글 더 보기';
+        moreButton.onclick = () => loadCommentPage(postId, page.nextCursor);
+        commentsList.appendChild(moreButton);
+    }
+}
+
+/**
+ * 접혀 있던 답글 스레드를 불러와 해당 댓글을 트리 전체로 교체합니다.
+ * @param {number} postId - 게시글 ID
+ * @param {number} commentId - 답글을 펼칠 댓글 ID
+ */
+async function loadReplies(postId, commentId) {
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/comments/${commentId}/thread`, {
+            headers: getAuthHeaders()
         });
+        if (!response.ok) throw new Error('답글을 불러올 수 없습니다.');
+        const thread = await response.json();
+        document.getElementById(`comment-${commentId}`).replaceWith(renderComment(thread, postId, getLoggedInUser()));
+    } catch (error) {
+        alert(error.message);
+    }
+}
 
-        // 로그인한 경우 댓글 작성 폼을 추가
-        if (user) {
-            commentFormContainer.innerHTML = `
-                <h4>댓글 작성</h4>
-                <form id="comment-form">
-                    <textarea id="comment-content" rows="3" required></textarea>
-                    <button type="submit">등록</button>
-                </form>
-            `;
-            document.getElementById('comment-form').addEventListener('submit', (e) => handleCreateComment(e, postId));
-        } else {
-            // 로그아웃 상태일 경우 로그인 안내 메시지 표시
-            commentFormContainer.innerHTML = `<p><a href="/login.html">로그인</a> 후 댓글을 작성할 수 있습니다.</p>`;
-        }
-    } catch(error) {
-        commentsList.innerHTML = `<p>${error.message}</p>`;
+/**
+ * 댓글 하나와 그 아래 답글들을 DOM 요소로 만듭니다.
+ * @param {object} comment - 서버에서 받은 댓글 (replies 에 하위 답글 포함)
+ * @param {number} postId - 현재 게시글 ID
+ * @param {{username: string, role: string}|null} user - 로그인 사용자
+ * @returns {HTMLElement} 댓글 요소
+ */
+function renderComment(comment, postId, user) {
+    const commentDiv = document.createElement('div');
+    commentDiv.className = 'comment';
+    commentDiv.id = `comment-${comment.id}`;
+
+    let actionButtons = '';
+    // 현재 로그인 사용자가 댓글 작성자일 경우 수정/삭제 버튼 표시
+    if (user && user.username === comment.authorUsername) {
+        actionButtons = `
+            <button onclick="showCommentEditForm(${comment.id})">수정</button>
+            <button onclick="handleDeleteComment(${postId}, ${comment.id})">삭제</button>
+        `;
+    }
+    // 로그인한 경우 답글 버튼 표시
+    const replyButton = user ? `<button onclick="showReplyForm(${postId}, ${comment.id})">답글</button>` : '';
+
+    commentDiv.innerHTML = `
+        <div class="comment-meta">
+            <strong>${comment.authorUsername}</strong> - 
+            <span>${new Date(comment.createdAt).toLocaleString()}</span>
+        </div>
+
+        <!-- 댓글 보기 모드 -->
+        <div id="comment-view-${comment.id}">
+            <p>${comment.content.replace(/\n/g, '<br>')}</p>
+            <div class="comment-actions">
+                 <button id="comment-like-btn-${comment.id}" onclick="toggleCommentLike(${postId}, ${comment.id})">
+                    👍 좋아요 (${comment.likeCount})
+                </button>
+                ${replyButton}
+                ${actionButtons}
+            </div>
+        </div>
+
+        <!-- 댓글 수정 모드 (초기에는 숨김) -->
+        <div id="comment-edit-${comment.id}" data-version="${comment.version != null ? comment.version : ''}" style="display: none;">
+            <textarea class="comment-edit-textarea" rows="3">${comment.content}</textarea>
+            <div class="comment-edit-actions">
+                <button onclick="handleEditComment(${postId}, ${comment.id})">저장</button>
+                <button onclick="hideCommentEditForm(${comment.id})">취소</button>
+            </div>
+        </div>
+
+        <!-- 답글 작성 폼 (답글 버튼을 누르면 채워짐) -->
+        <div id="reply-form-${comment.id}"></div>
+    `;
+
+    // 하위 답글들은 들여쓴 영역에 재귀적으로 추가 (목록 페이지에서는 접혀 있으므로 펼치기 버튼 표시)
+    if (comment.replyCount > 0 && !(comment.replies && comment.replies.length)) {
+        const showRepliesButton = document.createElement('button');
+        showRepliesButton.className = 'show-replies-btn';
+        showRepliesButton.textContent = `답글 ${comment.replyCount}개 보기`;
+        showRepliesButton.onclick = () => loadReplies(postId, comment.id);
+        commentDiv.appendChild(showRepliesButton);
+    } else if (comment.replies && comment.replies.length) {
+        const repliesDiv = document.createElement('div');
+        repliesDiv.className = 'comment-replies';
+        comment.replies.forEach(reply => repliesDiv.appendChild(renderComment(reply, postId, user)));
+        commentDiv.appendChild(repliesDiv);
+    }
+    return commentDiv;
+}
+
+/**
+ * 댓글 아래에 답글 작성 폼을 표시합니다.
+ * @param {number} postId - 현재 게시글 ID
+ * @param {number} parentId - 답글을 달 댓글 ID
+ */
+function showReplyForm(postId, parentId) {
+    const container = document.getElementById(`reply-form-${parentId}`);
+    if (container.innerHTML.trim()) {
+        container.innerHTML = ''; // 이미 열려 있으면 닫기
+        return;
+    }
+    container.innerHTML = `
+        <textarea id="reply-content-${parentId}" rows="2" required></textarea>
+        <button onclick="handleCreateReply(${postId}, ${parentId})">답글 등록</button>
+    `;
+}
+
+/**
+ * 답글을 작성합니다.
+ * @param {number} postId - 현재 게시글 ID
+ * @param {number} parentId - 부모 댓글 ID
+ */
+async function handleCreateReply(postId, parentId) {
+    const content = document.getElementById(`reply-content-${parentId}`).value;
+    if (!content.trim()) return;
+
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/comments`, {
+            method: 'POST',
+            headers: getAuthHeaders(),
+            body: JSON.stringify({ content, parentId })
+        });
+        if (!response.ok) throw new Error('답글 작성에 실패했습니다.');
+
+        fetchComments(postId); // 답글 작성 후 댓글 목록 새로고침
+    } catch (error) {
+        alert(error.message);
     }
 }
 
@@ -514,15 +812,25 @@ function hideCommentEditForm(commentId) {
  * @param {number} commentId - 수정할 댓글 ID
  */
 async function handleEditComment(postId, commentId) {
-    const content = document.querySelector(`#comment-edit-${commentId} textarea`).value;
+    const editForm = document.getElementById(`comment-edit-${commentId}`);
+    const content = editForm.querySelector('textarea').value;
+    const version = editForm.dataset.version === '' ? null : Number(editForm.dataset.version);
 
     try {
         const response = await fetch(`${API_BASE_URL}/api/posts/${postId}/comments/${commentId}`, {
             method: 'PUT',
             headers: getAuthHeaders(),
-            body: JSON.stringify({ content })
+            body: JSON.stringify({ content, version })
         });
 
+        if (response.status === 409) {
+            const conflict = await response.json();
+            if (conflict.currentVersion != null) {
+                editForm.dataset.version = conflict.currentVersion;
+            }
+            throw new Error(`${conflict.message}\n(지금 다시 저장하면 최신 내용을 덮어씁니다.)`);
+        }
+
         if (!response.ok) {
             throw new Error('댓글 수정에 실패했습니다. 권한을 확인하세요.');
         }
@@ -608,6 +916,61 @@ function checkAdminAccess() {
     }
 }
 
+// --- 관리자: 대시보드 ---
+/**
+ * 대시보드 통계를 불러와 표시합니다. (서버가 메모리에 유지하는 집계를 그대로 받아옴)
+ */
+async function fetchAdminStats() {
+    const totals = document.getElementById('stats-totals');
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/admin/stats`, { headers: getAuthHeaders() });
+        if (!response.ok) throw new Error('통계를 불러올 수 없습니다.');
+        const stats = await response.json();
+
+        totals.innerHTML = `
+            <div><strong>${stats.totalUsers}</strong>사용자</div>
+            <div><strong>${stats.totalPosts}</strong>게시글</div>
+            <div><strong>${stats.totalComments}</strong>댓글</div>
+            <div><strong>${stats.totalPostLikes}</strong>좋아요</div>
+        `;
+
+        // 일별 게시글 수: 기간 중 최댓값 대비 막대 높이
+        const chart = document.getElementById('stats-posts-per-day');
+        chart.innerHTML = '';
+        const max = Math.max(1, ...stats.postsPerDay.map(day => day.count));
+        stats.postsPerDay.forEach(day => {
+            const bar = document.createElement('div');
+            bar.className = 'stats-bar';
+            bar.style.height = `${Math.round(day.count / max * 100)}%`;
+            bar.title = `${day.date}: ${day.count}건`;
+            chart.appendChild(bar);
+        });
+
+        renderStatsList('stats-top-authors', stats.topAuthors, author => `${author.username} (${author.postCount}건)`);
+        renderStatsList('stats-most-liked', stats.mostLikedToday, post => `${post.title} - ${post.authorUsername} (♥ ${post.likeCount})`,
+            post => `/post.html?id=${post.postId}`);
+    } catch (error) {
+        totals.textContent = error.message;
+    }
+}
+
+function renderStatsList(elementId, items, label, href) {
+    const list = document.getElementById(elementId);
+    list.innerHTML = '';
+    if (items.length === 0) {
+        list.innerHTML = '<li>없음</li>';
+        return;
+    }
+    items.forEach(item => {
+        const entry = document.createElement('li');
+        const text = document.createElement(href ? 'a' : 'span');
+        text.textContent = label(item);
+        if (href) text.href = href(item);
+        entry.appendChild(text);
+        list.appendChild(entry);
+    });
+}
+
 // --- 관리자: 사용자 관리 ---
 /**
  * 관리자 페이지에서 모든 사용자 목록을 가져옵니다.
@@ -616,8 +979,10 @@ function checkAdminAccess() {
 async function fetchAdminUsers(page = 0) {
     const tableBody = document.querySelector("#admin-users-table tbody");
     const paginationContainer = document.getElementById("users-pagination");
+    const sortSelect = document.getElementById("admin-user-sort");
+    const sort = sortSelect ? sortSelect.value : 'id,asc';
     try {
-        const response = await fetch(`${API_BASE_URL}/api/admin/users?page=${page}`, { headers: getAuthHeaders() });
+        const response = await fetch(`${API_BASE_URL}/api/admin/users?page=${page}&sort=${encodeURIComponent(sort)}`, { headers: getAuthHeaders() });
         if (!response.ok) throw new Error('사용자 정보를 불러올 수 없습니다.');
 
         const pageData = await response.json();
@@ -634,13 +999,20 @@ async function fetchAdminUsers(page = 0) {
                     </select>
                 </td>
                 <td>${new Date(user.createdAt).toLocaleDateString()}</td>
-                <td><button onclick="deleteUser(${user.id})">삭제</button></td>
+                <td>${user.postCount}</td>
+                <td>${user.commentCount}</td>
+                <td>${user.likesReceived}</td>
+                <td>${user.lastActiveAt ? new Date(user.lastActiveAt).toLocaleString() : '-'}</td>
+                <td>
+                    <button onclick="revokeUserTokens(${user.id})">강제 로그아웃</button>
+                    <button onclick="deleteUser(${user.id})">삭제</button>
+                </td>
             `;
         });
         renderPagination(paginationContainer, pageData, fetchAdminUsers, '');
 
     } catch(error) {
-        tableBody.innerHTML = `<tr><td colspan="5">${error.message}</td></tr>`;
+        tableBody.innerHTML = `<tr><td colspan="9">${error.message}</td></tr>`;
         paginationContainer.innerHTML = ''; // 에러 발생 시 페이지네이션 비우기
     }
 }
@@ -669,6 +1041,24 @@ async function updateUserRole(userId) {
     }
 }
 
+/**
+ * 사용자에게 발급된 모든 토큰을 무효화합니다. (다음 요청부터 다시 로그인해야 함)
+ * @param {number} userId - 강제 로그아웃할 사용자 ID
+ */
+async function revokeUserTokens(userId) {
+    if (!confirm(`${userId}번 사용자를 모든 기기에서 로그아웃시키겠습니까?`)) return;
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/admin/users/${userId}/revoke-tokens`, {
+            method: 'POST',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error('강제 로그아웃에 실패했습니다.');
+        alert('사용자의 모든 토큰이 무효화되었습니다.');
+    } catch (error) {
+        alert(error.message);
+    }
+}
+
 /**
  * 사용자를 영구적으로 삭제합니다.
  * @param {number} userId - 삭제할 사용자 ID
@@ -781,24 +1171,28 @@ async function hardDeletePost(postId) {
 // --- 관리자: 댓글 관리 ---
 /**
  * 관리자 페이지에서 모든 댓글 목록을 가져옵니다.
+ * 서버는 전체 개수 없이 Slice 로 응답하므로 이전/다음 버튼만 표시합니다.
  * @param {number} page - 조회할 페이지 번호
- * @param {string} search - 검색어
+ * @param {object} filter - 검색 조건 ({ search: 내용 검색어, author: 작성자 이름 })
  */
-async function fetchAdminComments(page = 0, search = '') {
+async function fetchAdminComments(page = 0, filter = {}) {
     const tableBody = document.querySelector("#admin-comments-table tbody");
     const paginationContainer = document.getElementById("comments-pagination");
     let url = `${API_BASE_URL}/api/admin/comments?page=${page}`;
-    if (search) {
-        url += `&search=${encodeURIComponent(search)}`;
+    if (filter.search) {
+        url += `&search=${encodeURIComponent(filter.search)}`;
+    }
+    if (filter.author) {
+        url += `&author=${encodeURIComponent(filter.author)}`;
     }
 
     try {
         const response = await fetch(url, { headers: getAuthHeaders() });
         if (!response.ok) throw new Error('댓글 정보를 불러올 수 없습니다.');
 
-        const pageData = await response.json();
+        const sliceData = await response.json();
         tableBody.innerHTML = '';
-        pageData.content.forEach(comment => {
+        sliceData.content.forEach(comment => {
             const row = tableBody.insertRow();
             row.innerHTML = `
                 <td>${comment.id}</td>
@@ -810,7 +1204,7 @@ async function fetchAdminComments(page = 0, search = '') {
                 </td>
             `;
         });
-        renderPagination(paginationContainer, pageData, fetchAdminComments, search);
+        renderSlicePagination(paginationContainer, sliceData, fetchAdminComments, filter);
 
     } catch(error) {
         tableBody.innerHTML = `<tr><td colspan="5">${error.message}</td></tr>`;
@@ -818,12 +1212,21 @@ async function fetchAdminComments(page = 0, search = '') {
     }
 }
 
+/**
+ * 관리자 페이지의 댓글 검색 조건을 입력란에서 읽습니다.
+ */
+function getAdminCommentFilter() {
+    return {
+        search: document.getElementById('admin-comment-search').value,
+        author: document.getElementById('admin-comment-author').value.trim()
+    };
+}
+
 /**
  * 관리자 페이지에서 댓글을 검색합니다.
  */
 function searchAdminComments() {
-    const search = document.getElementById('admin-comment-search').value;
-    fetchAdminComments(0, search);
+    fetchAdminComments(0, getAdminCommentFilter());
 }
 
 /**
@@ -833,8 +1236,58 @@ function searchAdminComments() {
 async function deleteCommentAsAdmin(commentId) {
     if (!confirm(`${commentId}번 댓글을 영구 삭제하시겠습니까?`)) return;
     await fetch(`${API_BASE_URL}/api/admin/comments/${commentId}`, { method: 'DELETE', headers: getAuthHeaders() });
-    const search = document.getElementById('admin-comment-search').value;
-    fetchAdminComments(0, search); // 목록 새로고침
+    fetchAdminComments(0, getAdminCommentFilter()); // 목록 새로고침
+}
+
+
+// =================================================================
+// 실시간 카운터 (WebSocket + STOMP)
+// =================================================================
+
+/**
+ * 수신한 STOMP 프레임 문자열을 명령, 헤더, 본문으로 분리합니다.
+ * @param {string} data - WebSocket으로 받은 원본 프레임
+ * @returns {{command: string, headers: object, body: string}} 파싱된 프레임
+ */
+function parseStompFrame(data) {
+    const headerEnd = data.indexOf('\n\n');
+    const headerLines = data.substring(0, headerEnd).split('\n');
+    const headers = {};
+    headerLines.slice(1).forEach(line => {
+        const separator = line.indexOf(':');
+        headers[line.substring(0, separator)] = line.substring(separator + 1);
+    });
+    return {
+        command: headerLines[0],
+        headers,
+        body: data.substring(headerEnd + 2).replace(/\0$/, '')
+    };
+}
+
+/**
+ * 게시글들의 카운터 토픽(/topic/posts/{postId})을 구독합니다.
+ * 서버는 게시글마다 일정 주기에 최대 한 번만 바뀐 값을 모아서 보내줍니다.
+ * @param {number[]} postIds - 구독할 게시글 ID 목록
+ * @param {Function} onCounters - 카운터 프레임({postId, viewCount, likeCount, commentLikeCounts})을 받을 콜백
+ */
+function subscribePostCounters(postIds, onCounters) {
+    if (!postIds.length || !window.WebSocket) return;
+    const protocol = window.location.protocol === 'https:' ? 'wss' : 'ws';
+    const socket = new WebSocket(`${protocol}://${window.location.host}/ws`);
+
+    socket.onopen = () => {
+        socket.send(`CONNECT\naccept-version:1.2\nhost:${window.location.host}\nheart-beat:0,0\n\n\0`);
+    };
+    socket.onmessage = (event) => {
+        const frame = parseStompFrame(event.data);
+        if (frame.command === 'CONNECTED') {
+            postIds.forEach(postId => {
+                socket.send(`SUBSCRIBE\nid:post-${postId}\ndestination:/topic/posts/${postId}\n\n\0`);
+            });
+        } else if (frame.command === 'MESSAGE') {
+            onCounters(JSON.parse(frame.body));
+        }
+    };
 }
 
 
@@ -882,4 +1335,36 @@ function renderPagination(container, pageData, fetchFunction, search) {
         nextButton.onclick = () => fetchFunction(currentPage + 1, search);
         container.appendChild(nextButton);
     }
+}
+
+/**
+ * 전체 페이지 수가 없는 Slice 응답용 이전/다음 버튼을 표시합니다.
+ * @param {HTMLElement} container - 페이지네이션 버튼이 들어갈 부모 요소
+ * @param {object} sliceData - 서버에서 받은 Slice 정보 (number, first, last)
+ * @param {Function} fetchFunction - 페이지 이동 시 호출할 함수
+ * @param {*} filter - 현재 검색 조건 (페이지 이동 시 유지하기 위함)
+ */
+function renderSlicePagination(container, sliceData, fetchFunction, filter) {
+    if (!container) return;
+    container.innerHTML = '';
+    const { number: currentPage, first, last } = sliceData;
+
+    if (!first) {
+        const prevButton = document.createElement('button');
+        prevButton.innerText = '이전';
+        prevButton.onclick = () => fetchFunction(currentPage - 1, filter);
+        container.appendChild(prevButton);
+    }
+    if (!first || !last) {
+        const pageButton = document.createElement('button');
+        pageButton.innerText = currentPage + 1;
+        pageButton.classList.add('active');
+        container.appendChild(pageButton);
+    }
+    if (!last) {
+        const nextButton = document.createElement('button');
+        nextButton.innerText = '다음';
+        nextButton.onclick = () => fetchFunction(currentPage + 1, filter);
+        container.appendChild(nextButton);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.freeboard.cache;
+
+import com.example.freeboard.FreeboardApplication;
+import com.example.freeboard.config.CacheConfig;
+import com.example.freeboard.dto.RegisterRequest;
+import com.example.freeboard.entity.User;
+import com.example.freeboard.service.CustomUserDetailsService;
+import com.example.freeboard.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 같은 DB 를 쓰는 두 노드(애플리케이션 컨텍스트)를 TCP 무효화 버스로 묶어, 한 노드의 evict 가 다른 노드에 전파되는지 확인합니다.
+ */
+@Testcontainers
+class CacheInvalidationClusterTest {
+
+    private static final long COALESCE_MILLIS = 100;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = startNode(portA, portB);
+        nodeB = startNode(portB, portA);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void userUpdateOnOneNodeEvictsCachedUserOnTheOther() {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername("cluster-user");
+        request.setPassword("password");
+        User user = nodeA.getBean(UserService.class).registerUser(request);
+
+        // 노드 B 가 인증 경로에서 사용자를 읽어 캐시에 올려 둠
+        nodeB.getBean(CustomUserDetailsService.class).loadUserByUsername("cluster-user");
+        Cache usersOnB = nodeB.getBean(CacheManager.class).getCache(CacheConfig.USERS);
+        assertThat(usersOnB.get("cluster-user")).isNotNull();
+
+        nodeA.getBean(UserService.class).updateUserRole(user.getId(), "ADMIN");
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(usersOnB.get("cluster-user")).isNull());
+    }
+
+    @Test
+    void burstOfInvalidationsIsCoalescedIntoOneDeduplicatedBatch() throws InterruptedException {
+        List<List<CacheInvalidation>> received = new CopyOnWriteArrayList<>();
+        nodeB.getBean(CacheInvalidationBus.class).subscribe(batch -> {
+            if (batch.stream().anyMatch(invalidation -> invalidation.cacheName().startsWith("coalesce-"))) {
+                received.add(batch);
+            }
+        });
+
+        // coalesce-ms 안에 같은 키를 여러 번, 그리고 캐시 비우기와 그 캐시의 개별 키를 함께 발행
+        CacheInvalidationBus busA = nodeA.getBean(CacheInvalidationBus.class);
+        for (int i = 0; i < 50; i++) {
+            busA.publish(new CacheInvalidation("coalesce-a", "k1"));
+            busA.publish(new CacheInvalidation("coalesce-a", "k2"));
+            busA.publish(new CacheInvalidation("coalesce-b", "k" + i));
+        }
+        busA.publish(CacheInvalidation.clear("coalesce-b"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !received.isEmpty());
+        // 다음 묶음이 있었다면 도착할 만큼 더 기다린 뒤 확인
+        Thread.sleep(COALESCE_MILLIS * 3);
+
+        assertThat(received).hasSize(1);
+        // 중복이 제거되고, 비운 캐시의 개별 키는 빠짐
+        assertThat(received.get(0)).containsExactlyInAnyOrder(
+                new CacheInvalidation("coalesce-a", "k1"),
+                new CacheInvalidation("coalesce-a", "k2"),
+                CacheInvalidation.clear("coalesce-b"));
+    }
+
+    private static ConfigurableApplicationContext startNode(int listenPort, int peerPort) {
+        return new SpringApplicationBuilder(FreeboardApplication.class)
+                .properties(
+                        "spring.datasource.url=" + MYSQL.getJdbcUrl(),
+                        "spring.datasource.username=" + MYSQL.getUsername(),
+                        "spring.datasource.password=" + MYSQL.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "app.warmup.enabled=false",
+                        "app.cache.invalidation.transport=tcp",
+                        "app.cache.invalidation.coalesce-ms=" + COALESCE_MILLIS,
+                        "app.cache.invalidation.tcp.port=" + listenPort,
+                        "app.cache.invalidation.tcp.peers=localhost:" + peerPort)
+                .run();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
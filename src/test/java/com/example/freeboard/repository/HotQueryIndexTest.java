@@ -0,0 +1,211 @@
+package com.example.freeboard.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션(V1, V2)으로 만든 스키마에서 자주 실행되는 저장소 쿼리의 실행 계획을 확인합니다.
+ *
+ * 각 쿼리는 Hibernate 가 만드는 SQL 과 같은 모양(조인, 조건, 정렬, LIMIT)으로 EXPLAIN 하며,
+ * 옵티마이저가 작은 테이블을 통째로 읽지 않도록 데이터를 조금 넣고 통계를 갱신한 뒤 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryIndexTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (username, password, role, created_at) VALUES " +
+                "('u1', 'x', 'USER', NOW(6)), ('u2', 'x', 'USER', NOW(6)), ('u3', 'x', 'USER', NOW(6)), " +
+                "('u4', 'x', 'USER', NOW(6)), ('u5', 'x', 'USER', NOW(6))");
+        // 게시글 1000개: 한 시간 간격, 10개 중 1개는 소프트 삭제
+        jdbcTemplate.update("INSERT INTO post (title, content, user_id, created_at, deleted) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) " +
+                "SELECT CONCAT('title ', n), 'content', 1 + n % 5, NOW(6) - INTERVAL n HOUR, n % 10 = 0 FROM seq");
+        // 댓글 1000개: 게시글 20개에 나눠 달고, 절반은 답글(depth 1)
+        jdbcTemplate.update("INSERT INTO comment (post_id, content, user_id, created_at, like_count, path, depth) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) " +
+                "SELECT 1 + n % 20, 'comment', 1 + n % 5, NOW(6) - INTERVAL n MINUTE, n % 7, CONCAT(LPAD(n, 8, '0'), '/'), n % 2 FROM seq");
+        // 좋아요 1000개: (게시글, 사용자) 쌍이 겹치지 않게
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id, created_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 999) " +
+                "SELECT 1 + n % 200, 1 + n DIV 200, NOW(6) - INTERVAL n HOUR FROM seq");
+        jdbcTemplate.update("INSERT INTO comment_likes (comment_id, user_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 499) " +
+                "SELECT 1 + n % 100, 1 + n DIV 100 FROM seq");
+        jdbcTemplate.execute("ANALYZE TABLE users, post, comment, post_likes, comment_likes");
+    }
+
+    // --- PostRepository ---
+
+    @Test
+    void activeListUsesDeletedCreatedIndexWithoutFilesort() {
+        // findAllSummaries (목록 기본 정렬: createdAt DESC)
+        Map<String, Object> post = planFor("p", "SELECT p.id, p.title, p.excerpt, a.username, p.created_at " +
+                "FROM post p JOIN users a ON a.id = p.user_id WHERE p.deleted = false " +
+                "ORDER BY p.created_at DESC LIMIT 10");
+        assertThat(post.get("key")).isEqualTo("idx_post_deleted_created");
+        assertThat(extra(post)).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void visibleCountUsesDeletedCreatedIndex() {
+        // countVisible, 목록의 count 쿼리
+        Map<String, Object> post = planFor("post", "SELECT COUNT(*) FROM post WHERE deleted = false");
+        assertThat(post.get("key")).isEqualTo("idx_post_deleted_created");
+        assertThat(extra(post)).contains("Using index");
+    }
+
+    @Test
+    void trendingSeedUsesDeletedCreatedRange() {
+        // findTrendingSeed
+        Map<String, Object> post = planFor("p", "SELECT p.id, p.title, a.username, p.created_at, p.view_count, p.like_count, p.comment_count " +
+                "FROM post p JOIN users a ON a.id = p.user_id WHERE p.deleted = false AND p.created_at >= NOW() - INTERVAL 2 DAY");
+        assertThat(post.get("key")).isEqualTo("idx_post_deleted_created");
+        assertThat(post.get("type")).isEqualTo("range");
+    }
+
+    @Test
+    void dailyCountsSkipScanDeletedPrefix() {
+        // countCreatedPerDay: deleted 조건이 없어도 deleted 의 두 값을 건너뛰며 created_at 범위만 읽음
+        Map<String, Object> post = planFor("post", "SELECT DATE(t.created_at), COUNT(*) FROM (" +
+                "SELECT created_at FROM post WHERE created_at >= NOW() - INTERVAL 2 DAY " +
+                "UNION ALL SELECT created_at FROM archived_posts WHERE created_at >= NOW() - INTERVAL 2 DAY) t " +
+                "GROUP BY DATE(t.created_at)");
+        assertThat(post.get("key")).isEqualTo("idx_post_deleted_created");
+        assertThat(extra(post)).contains("Using index for skip scan");
+    }
+
+    @Test
+    void postsByAuthorUseUserDeletedIndex() {
+        // 작성자별 활성 글 수 (활동 지표 재계산)
+        Map<String, Object> post = planFor("post", "SELECT COUNT(*) FROM post WHERE user_id = 1 AND deleted = false");
+        assertThat(post.get("key")).isEqualTo("idx_post_user_deleted");
+    }
+
+    // --- CommentRepository ---
+
+    @Test
+    void rootCommentPagesUseDepthCreatedIndexForPostAndCreatedAt() {
+        // findRootsOldestFirst / findRootsNewestFirst: 요청된 comment (post_id, created_at) 인덱스를
+        // (post_id, depth, created_at, id) 가 depth = 0 조건으로 대신하므로 정렬 없이 인덱스 순서로 읽음
+        Map<String, Object> oldest = planFor("c", "SELECT c.*, a.username FROM comment c JOIN users a ON a.id = c.user_id " +
+                "WHERE c.post_id = 1 AND c.depth = 0 ORDER BY c.created_at ASC, c.id ASC LIMIT 20");
+        assertThat(oldest.get("key")).isEqualTo("idx_comment_post_depth_created");
+        assertThat(extra(oldest)).doesNotContain("Using filesort");
+
+        Map<String, Object> newestAfter = planFor("c", "SELECT c.*, a.username FROM comment c JOIN users a ON a.id = c.user_id " +
+                "WHERE c.post_id = 1 AND c.depth = 0 AND (c.created_at < NOW() OR (c.created_at = NOW() AND c.id < 500)) " +
+                "ORDER BY c.created_at DESC, c.id DESC LIMIT 20");
+        assertThat(newestAfter.get("key")).isEqualTo("idx_comment_post_depth_created");
+        assertThat(extra(newestAfter)).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void mostLikedRootCommentsUseDepthLikesIndex() {
+        // findRootsMostLiked
+        Map<String, Object> comment = planFor("c", "SELECT c.*, a.username FROM comment c JOIN users a ON a.id = c.user_id " +
+                "WHERE c.post_id = 1 AND c.depth = 0 ORDER BY c.like_count DESC, c.id DESC LIMIT 20");
+        assertThat(comment.get("key")).isEqualTo("idx_comment_post_depth_likes");
+        assertThat(extra(comment)).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void adminAuthorFilterUsesCommentUserIndex() {
+        // findByAuthorForAdmin (id DESC)
+        Map<String, Object> comment = planFor("c", "SELECT c.*, a.username, p.title FROM comment c " +
+                "JOIN users a ON a.id = c.user_id JOIN post p ON p.id = c.post_id " +
+                "WHERE c.user_id = 1 ORDER BY c.id DESC LIMIT 20");
+        assertThat(comment.get("key")).isEqualTo("idx_comment_user");
+        assertThat(extra(comment)).doesNotContain("Using filesort");
+    }
+
+    // --- PostLikeRepository / CommentLikeRepository ---
+
+    @Test
+    void postLikeLookupsUseUniqueKey() {
+        // countByPost
+        Map<String, Object> count = planFor("l", "SELECT COUNT(l.id) FROM post_likes l WHERE l.post_id = 1");
+        assertThat(count.get("key")).isEqualTo("uk_post_likes_post_user");
+
+        // existsByPostAndUser / findByPostAndUser (post_id = 1, user_id = 1 인 행이 있음)
+        Map<String, Object> exists = planFor("l", "SELECT l.id FROM post_likes l WHERE l.post_id = 1 AND l.user_id = 1 LIMIT 1");
+        assertThat(exists.get("key")).isEqualTo("uk_post_likes_post_user");
+    }
+
+    @Test
+    void likedPostIdsUseUserIndex() {
+        // findPostIdsByUser / deleteByUser
+        Map<String, Object> byUser = planFor("l", "SELECT DISTINCT l.post_id FROM post_likes l WHERE l.user_id = 1");
+        assertThat(byUser.get("key")).isEqualTo("idx_post_likes_user");
+        assertThat(extra(byUser)).contains("Using index");
+
+        // findLikedPostIds: (user_id, post_id IN ...) 는 두 인덱스 모두 같은 수의 점 조회라 어느 쪽이든 괜찮음
+        Map<String, Object> liked = planFor("l", "SELECT l.post_id FROM post_likes l WHERE l.user_id = 1 AND l.post_id IN (1, 2, 3, 4, 5)");
+        assertThat(liked.get("key")).isIn("idx_post_likes_user", "uk_post_likes_post_user");
+    }
+
+    @Test
+    void recentLikeCountsUseCreatedIndex() {
+        // countLikesSince
+        Map<String, Object> likes = planFor("l", "SELECT p.id, p.title, a.username, COUNT(l.id) FROM post_likes l " +
+                "JOIN post p ON p.id = l.post_id JOIN users a ON a.id = p.user_id " +
+                "WHERE l.created_at >= NOW() - INTERVAL 2 DAY AND p.deleted = false GROUP BY p.id, p.title, a.username");
+        assertThat(likes.get("key")).isEqualTo("idx_post_likes_created");
+    }
+
+    @Test
+    void commentLikeLookupsUseUniqueKey() {
+        // existsByCommentAndUser / findByCommentAndUser
+        Map<String, Object> exists = planFor("cl", "SELECT cl.id FROM comment_likes cl WHERE cl.comment_id = 1 AND cl.user_id = 1 LIMIT 1");
+        assertThat(exists.get("key")).isEqualTo("uk_comment_likes_comment_user");
+
+        // deleteByUser
+        Map<String, Object> byUser = planFor("cl", "SELECT cl.id FROM comment_likes cl WHERE cl.user_id = 1");
+        assertThat(byUser.get("key")).isEqualTo("idx_comment_likes_user");
+    }
+
+    // EXPLAIN 결과에서 주어진 테이블(별칭)의 행을 찾습니다.
+    private Map<String, Object> planFor(String table, String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        return plan.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 가 없습니다: " + plan));
+    }
+
+    private static String extra(Map<String, Object> row) {
+        Object extra = row.get("Extra");
+        return extra != null ? extra.toString() : "";
+    }
+}